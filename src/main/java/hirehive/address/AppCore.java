@@ -0,0 +1,271 @@
+package hirehive.address;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import hirehive.address.commons.core.Config;
+import hirehive.address.commons.core.Durability;
+import hirehive.address.commons.core.LogsCenter;
+import hirehive.address.commons.exceptions.DataLoadingException;
+import hirehive.address.commons.util.ConfigUtil;
+import hirehive.address.commons.util.StringUtil;
+import hirehive.address.logic.Logic;
+import hirehive.address.logic.LogicManager;
+import hirehive.address.model.AddressBook;
+import hirehive.address.model.Model;
+import hirehive.address.model.ModelManager;
+import hirehive.address.model.ReadOnlyAddressBook;
+import hirehive.address.model.ReadOnlyUserPrefs;
+import hirehive.address.model.UserPrefs;
+import hirehive.address.model.util.SampleDataUtil;
+import hirehive.address.storage.AddressBookStorage;
+import hirehive.address.storage.AsyncAddressBookSaver;
+import hirehive.address.storage.BinaryAddressBookStorage;
+import hirehive.address.storage.JournalAddressBookStorage;
+import hirehive.address.storage.JsonAddressBookStorage;
+import hirehive.address.storage.JsonUserPrefsStorage;
+import hirehive.address.storage.ShardedAddressBookStorage;
+import hirehive.address.storage.Storage;
+import hirehive.address.storage.StorageManager;
+import hirehive.address.storage.UserPrefsStorage;
+
+/**
+ * The parts of the application that do not need JavaFX: its config, storage, model and logic.
+ * Both the GUI started by {@code MainApp} and the command line started by {@code HeadlessApp} run on top of it.
+ */
+public class AppCore {
+
+    /** Added to the names of the files a storage mode kept its data in, once the data is copied to another mode. */
+    public static final String MIGRATED_FILE_SUFFIX = ".migrated";
+
+    private static final Logger logger = LogsCenter.getLogger(AppCore.class);
+
+    private final Config config;
+    private final Storage storage;
+    private final AsyncAddressBookSaver saver;
+    private final Model model;
+    private final Logic logic;
+
+    /**
+     * Loads the config at {@code configFilePath}, or at the default path if it is null, and then the user prefs
+     * and address book it points to.
+     */
+    public AppCore(Path configFilePath) {
+        config = initConfig(configFilePath);
+        initLogging(config);
+
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = initPrefs(userPrefsStorage);
+        AddressBookStorage addressBookStorage = initAddressBookStorage(userPrefs);
+        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+
+        model = initModelManager(storage, userPrefs);
+
+        saver = new AsyncAddressBookSaver(storage);
+        logic = new LogicManager(model, storage, saver);
+    }
+
+    public Logic getLogic() {
+        return logic;
+    }
+
+    /**
+     * Returns the {@code AddressBookStorage} for the address book file and storage mode in {@code userPrefs},
+     * saving as durably as {@code config} requires. <br>
+     * If the storage mode has changed since the last run, the address book is first copied over from where the
+     * previous mode kept it, and the files of the previous mode are moved aside.
+     */
+    private AddressBookStorage initAddressBookStorage(ReadOnlyUserPrefs userPrefs) {
+        Path addressBookFilePath = userPrefs.getAddressBookFilePath();
+        Durability durability = config.getDurability();
+        AddressBookStorage jsonStorage = new JsonAddressBookStorage(addressBookFilePath, durability);
+        AddressBookStorage binaryStorage = new BinaryAddressBookStorage(
+                BinaryAddressBookStorage.getBinaryFilePath(addressBookFilePath), durability);
+        AddressBookStorage shardedStorage = new ShardedAddressBookStorage(
+                ShardedAddressBookStorage.getManifestFilePath(addressBookFilePath),
+                ShardedAddressBookStorage.DEFAULT_SHARD_COUNT, durability);
+        AddressBookStorage journalStorage = new JournalAddressBookStorage(
+                JournalAddressBookStorage.getSnapshotFilePath(addressBookFilePath),
+                JournalAddressBookStorage.DEFAULT_COMPACTION_THRESHOLD, durability);
+
+        switch (userPrefs.getStorageMode()) {
+        case JOURNAL:
+            return migrateAddressBook(journalStorage, jsonStorage, binaryStorage, shardedStorage);
+        case BINARY:
+            return migrateAddressBook(binaryStorage, jsonStorage, shardedStorage, journalStorage);
+        case SHARDED:
+            return migrateAddressBook(shardedStorage, jsonStorage, binaryStorage, journalStorage);
+        default:
+            return migrateAddressBook(jsonStorage, binaryStorage, shardedStorage, journalStorage);
+        }
+    }
+
+    /**
+     * Returns {@code storage}, after copying into it the address book of the first of {@code formerStorages} that
+     * has one if {@code storage} has none. A failed copy is logged, and leaves the former storage as it is so that
+     * its address book can still be recovered. <br>
+     * Once {@code storage} has the address book, the files of {@code formerStorages} are moved aside, so that their
+     * outdated address books are not copied back if the storage mode is changed back to theirs.
+     */
+    private AddressBookStorage migrateAddressBook(AddressBookStorage storage, AddressBookStorage... formerStorages) {
+        if (!Files.exists(storage.getAddressBookFilePath())) {
+            Optional<AddressBookStorage> sourceStorage = Arrays.stream(formerStorages)
+                    .filter(formerStorage -> Files.exists(formerStorage.getAddressBookFilePath()))
+                    .findFirst();
+            if (sourceStorage.isEmpty()) {
+                return storage;
+            }
+            try {
+                storage.copyFrom(sourceStorage.get());
+                logger.info("Copied the address book in " + sourceStorage.get().getAddressBookFilePath() + " to "
+                        + storage.getAddressBookFilePath());
+            } catch (DataLoadingException | IOException e) {
+                logger.warning("Could not copy the address book in " + sourceStorage.get().getAddressBookFilePath()
+                        + " to " + storage.getAddressBookFilePath() + ": " + e);
+                return storage;
+            }
+        }
+
+        for (AddressBookStorage formerStorage : formerStorages) {
+            if (!Files.exists(formerStorage.getAddressBookFilePath())) {
+                continue;
+            }
+            try {
+                formerStorage.moveAddressBookAside(MIGRATED_FILE_SUFFIX);
+                logger.info("Moved the outdated address book in " + formerStorage.getAddressBookFilePath()
+                        + " aside");
+            } catch (IOException e) {
+                logger.warning("Could not move the outdated address book in "
+                        + formerStorage.getAddressBookFilePath() + " aside: " + e);
+            }
+        }
+        return storage;
+    }
+
+    /**
+     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
+     * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
+     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     */
+    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+        logger.info("Using data file : " + storage.getAddressBookFilePath());
+
+        Optional<ReadOnlyAddressBook> addressBookOptional;
+        ReadOnlyAddressBook initialData;
+        try {
+            addressBookOptional = storage.readAddressBook();
+            if (!addressBookOptional.isPresent()) {
+                logger.info("Creating a new data file " + storage.getAddressBookFilePath()
+                        + " populated with a sample AddressBook.");
+            }
+            initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
+        } catch (DataLoadingException e) {
+            logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
+                    + " Will be starting with an empty AddressBook.");
+            initialData = new AddressBook();
+        }
+
+        return new ModelManager(initialData, userPrefs);
+    }
+
+    private void initLogging(Config config) {
+        LogsCenter.init(config);
+    }
+
+    /**
+     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
+     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
+     * if {@code configFilePath} is null.
+     */
+    private Config initConfig(Path configFilePath) {
+        Config initializedConfig;
+        Path configFilePathUsed;
+
+        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
+
+        if (configFilePath != null) {
+            logger.info("Custom Config file specified " + configFilePath);
+            configFilePathUsed = configFilePath;
+        }
+
+        logger.info("Using config file : " + configFilePathUsed);
+
+        try {
+            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
+            if (!configOptional.isPresent()) {
+                logger.info("Creating new config file " + configFilePathUsed);
+            }
+            initializedConfig = configOptional.orElse(new Config());
+        } catch (DataLoadingException e) {
+            logger.warning("Config file at " + configFilePathUsed + " could not be loaded."
+                    + " Using default config properties.");
+            initializedConfig = new Config();
+        }
+
+        //Update config file in case it was missing to begin with or there are new/unused fields
+        try {
+            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+        return initializedConfig;
+    }
+
+    /**
+     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
+     * or a new {@code UserPrefs} with default configuration if errors occur when
+     * reading from the file.
+     */
+    private UserPrefs initPrefs(UserPrefsStorage storage) {
+        Path prefsFilePath = storage.getUserPrefsFilePath();
+        logger.info("Using preference file : " + prefsFilePath);
+
+        UserPrefs initializedPrefs;
+        try {
+            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
+            if (!prefsOptional.isPresent()) {
+                logger.info("Creating new preference file " + prefsFilePath);
+            }
+            initializedPrefs = prefsOptional.orElse(new UserPrefs());
+        } catch (DataLoadingException e) {
+            logger.warning("Preference file at " + prefsFilePath + " could not be loaded."
+                    + " Using default preferences.");
+            initializedPrefs = new UserPrefs();
+        }
+
+        //Update prefs file in case it was missing to begin with or there are new/unused fields
+        try {
+            storage.saveUserPrefs(initializedPrefs);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+
+        return initializedPrefs;
+    }
+
+    /**
+     * Waits for the address book to be saved, then saves the user prefs.
+     * If the last background save failed, the address book is saved again first.
+     */
+    public void stop() {
+        try {
+            saver.close();
+        } catch (IOException e) {
+            logger.warning("Background save failed, saving address book again " + StringUtil.getDetails(e));
+            try {
+                storage.saveAddressBook(model.getAddressBook());
+            } catch (IOException retryException) {
+                logger.severe("Failed to save address book " + StringUtil.getDetails(retryException));
+            }
+        }
+        try {
+            storage.saveUserPrefs(model.getUserPrefs());
+        } catch (IOException e) {
+            logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
+        }
+    }
+}
@@ -2,6 +2,7 @@ package hirehive.address;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.logging.Logger;
@@ -15,9 +16,18 @@ import javafx.application.Application;
  * Represents the parsed command-line parameters given to the application.
  */
 public class AppParameters {
+    public static final String HEADLESS_FLAG = "--headless";
+    public static final String ATOMIC_FLAG = "--atomic";
+
+    private static final String NAMED_PARAMETER_PREFIX = "--";
+    private static final String NAMED_PARAMETER_SEPARATOR = "=";
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
 
     private Path configPath;
+    private boolean isHeadless;
+    private Path scriptPath;
+    private String invalidScriptPath;
+    private boolean isAtomic;
 
     public Path getConfigPath() {
         return configPath;
@@ -27,12 +37,88 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    /**
+     * Returns true if the application should run commands from the command line instead of showing its GUI.
+     */
+    public boolean isHeadless() {
+        return isHeadless;
+    }
+
+    public void setHeadless(boolean isHeadless) {
+        this.isHeadless = isHeadless;
+    }
+
+    /**
+     * Returns the script file to run commands from, or null if they are read from standard input.
+     */
+    public Path getScriptPath() {
+        return scriptPath;
+    }
+
+    public void setScriptPath(Path scriptPath) {
+        this.scriptPath = scriptPath;
+    }
+
+    /**
+     * Returns the script path given that is not a valid path, or null if none was given.
+     */
+    public String getInvalidScriptPath() {
+        return invalidScriptPath;
+    }
+
+    public void setInvalidScriptPath(String invalidScriptPath) {
+        this.invalidScriptPath = invalidScriptPath;
+    }
+
+    /**
+     * Returns true if no changes should be made if any command in the script fails.
+     */
+    public boolean isAtomic() {
+        return isAtomic;
+    }
+
+    public void setAtomic(boolean isAtomic) {
+        this.isAtomic = isAtomic;
+    }
+
     /**
      * Parses the application command-line parameters.
      */
     public static AppParameters parse(Application.Parameters parameters) {
+        return parse(parameters.getNamed());
+    }
+
+    /**
+     * Parses the application command-line arguments, before JavaFX is started.
+     * Named parameters are given as {@code --name=value}, as with JavaFX, {@value #HEADLESS_FLAG} selects
+     * the headless mode and {@value #ATOMIC_FLAG} makes a script all or nothing. Other arguments are ignored.
+     */
+    public static AppParameters parse(String... args) {
+        Map<String, String> namedParameters = new HashMap<>();
+        boolean isHeadless = false;
+        boolean isAtomic = false;
+        for (String arg : args) {
+            int separatorIndex = arg.indexOf(NAMED_PARAMETER_SEPARATOR);
+            if (arg.equals(HEADLESS_FLAG)) {
+                isHeadless = true;
+            } else if (arg.equals(ATOMIC_FLAG)) {
+                isAtomic = true;
+            } else if (arg.startsWith(NAMED_PARAMETER_PREFIX) && separatorIndex > NAMED_PARAMETER_PREFIX.length()) {
+                namedParameters.put(arg.substring(NAMED_PARAMETER_PREFIX.length(), separatorIndex),
+                        arg.substring(separatorIndex + 1));
+            }
+        }
+
+        AppParameters appParameters = parse(namedParameters);
+        // running a script needs no GUI either, even if it cannot be run
+        appParameters.setHeadless(isHeadless || appParameters.getScriptPath() != null
+                || appParameters.getInvalidScriptPath() != null);
+        appParameters.setAtomic(isAtomic);
+        return appParameters;
+    }
+
+    private static AppParameters parse(Map<String, String> namedParameters) {
         AppParameters appParameters = new AppParameters();
-        Map<String, String> namedParameters = parameters.getNamed();
 
         String configPathParameter = namedParameters.get("config");
         if (configPathParameter != null && !FileUtil.isValidPath(configPathParameter)) {
@@ -41,6 +127,14 @@ public class AppParameters {
         }
         appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
 
+        String scriptPathParameter = namedParameters.get("script");
+        if (scriptPathParameter != null && !FileUtil.isValidPath(scriptPathParameter)) {
+            logger.warning("Invalid script path " + scriptPathParameter + ".");
+            appParameters.setInvalidScriptPath(scriptPathParameter);
+            scriptPathParameter = null;
+        }
+        appParameters.setScriptPath(scriptPathParameter != null ? Paths.get(scriptPathParameter) : null);
+
         return appParameters;
     }
 
@@ -56,18 +150,26 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(configPath, otherAppParameters.configPath);
+        return Objects.equals(configPath, otherAppParameters.configPath)
+                && isHeadless == otherAppParameters.isHeadless
+                && Objects.equals(scriptPath, otherAppParameters.scriptPath)
+                && Objects.equals(invalidScriptPath, otherAppParameters.invalidScriptPath)
+                && isAtomic == otherAppParameters.isAtomic;
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, isHeadless, scriptPath, invalidScriptPath, isAtomic);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("configPath", configPath)
+                .add("isHeadless", isHeadless)
+                .add("scriptPath", scriptPath)
+                .add("invalidScriptPath", invalidScriptPath)
+                .add("isAtomic", isAtomic)
                 .toString();
     }
 }
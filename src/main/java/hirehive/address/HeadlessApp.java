@@ -0,0 +1,130 @@
+package hirehive.address;
+
+import static hirehive.address.logic.parser.CliSyntax.PREFIX_ATOMIC;
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.logging.Logger;
+
+import hirehive.address.commons.core.LogsCenter;
+import hirehive.address.commons.util.StringUtil;
+import hirehive.address.logic.Logic;
+import hirehive.address.logic.commands.CommandResult;
+import hirehive.address.logic.commands.RunCommand;
+import hirehive.address.logic.commands.exceptions.CommandException;
+import hirehive.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Runs the application without its GUI, executing commands read from standard input, or a script file run as a
+ * {@code RunCommand}, and printing their results. It never starts JavaFX, so it starts quickly and also runs on
+ * machines without a display.
+ */
+public class HeadlessApp {
+
+    public static final String PROMPT = "> ";
+    public static final String MESSAGE_INVALID_SCRIPT_PATH = "Invalid script path: %1$s";
+
+    private static final Logger logger = LogsCenter.getLogger(HeadlessApp.class);
+
+    private final Logic logic;
+    private final PrintStream out;
+
+    /**
+     * Creates a {@code HeadlessApp} that executes commands with {@code logic} and prints their results to {@code out}.
+     */
+    public HeadlessApp(Logic logic, PrintStream out) {
+        requireNonNull(logic);
+        requireNonNull(out);
+        this.logic = logic;
+        this.out = out;
+    }
+
+    /**
+     * Runs the script file in {@code appParameters} as a single {@code RunCommand}, or the commands typed into
+     * standard input if there is none, then saves the data and exits.
+     *
+     * @return the exit status of the application, which is non-zero if the script path is invalid or any command,
+     *     typed or in the script, failed.
+     */
+    public static int run(AppParameters appParameters) {
+        if (appParameters.getInvalidScriptPath() != null) {
+            // reading standard input instead would let a broken invocation pass for a successful one
+            System.err.println(String.format(MESSAGE_INVALID_SCRIPT_PATH, appParameters.getInvalidScriptPath()));
+            return 1;
+        }
+
+        logger.info("========================[ Initializing AddressBook (headless) ]=======================");
+        AppCore core = new AppCore(appParameters.getConfigPath());
+        Path scriptPath = appParameters.getScriptPath();
+
+        int failedCount;
+        try (BufferedReader commands = scriptPath != null
+                ? new BufferedReader(new StringReader(getRunCommandText(scriptPath, appParameters.isAtomic())))
+                : new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8))) {
+            boolean isInteractive = scriptPath == null && System.console() != null;
+            failedCount = new HeadlessApp(core.getLogic(), System.out).execute(commands, isInteractive);
+        } catch (IOException e) {
+            logger.severe("Failed to read commands " + StringUtil.getDetails(e));
+            failedCount = 1;
+        } finally {
+            logger.info("=======================[ Stopping AddressBook (headless) ]========================");
+            core.stop();
+        }
+        return failedCount == 0 ? 0 : 1;
+    }
+
+    private static String getRunCommandText(Path scriptPath, boolean isAtomic) {
+        return RunCommand.COMMAND_WORD + " " + scriptPath + (isAtomic ? " " + PREFIX_ATOMIC : "");
+    }
+
+    /**
+     * Executes each line of {@code commands} as a command, printing its result or why it failed.
+     * Blank lines and comments are skipped, and an exit command stops the rest from being executed.
+     *
+     * @param showsPrompt whether to prompt for each command, as when they are typed in.
+     * @return the number of commands that failed, counting a command that ran but reported failures, such as a
+     *     script with failed lines.
+     */
+    public int execute(BufferedReader commands, boolean showsPrompt) throws IOException {
+        int failedCount = 0;
+        for (String line = prompt(commands, showsPrompt); line != null; line = prompt(commands, showsPrompt)) {
+            String commandText = line.strip();
+            if (commandText.isEmpty() || commandText.startsWith(RunCommand.COMMENT_PREFIX)) {
+                continue;
+            }
+
+            try {
+                CommandResult commandResult = logic.execute(commandText);
+                out.println(commandResult.getFeedbackToUser());
+                if (commandResult.isShowNote()) {
+                    out.println(logic.getPersonNote());
+                }
+                if (commandResult.hasFailures()) {
+                    failedCount++;
+                }
+                if (commandResult.isExit()) {
+                    break;
+                }
+            } catch (CommandException | ParseException e) {
+                logger.info("An error occurred while executing command: " + commandText);
+                out.println(e.getMessage());
+                failedCount++;
+            }
+        }
+        return failedCount;
+    }
+
+    private String prompt(BufferedReader commands, boolean showsPrompt) throws IOException {
+        if (showsPrompt) {
+            out.print(PROMPT);
+            out.flush();
+        }
+        return commands.readLine();
+    }
+}
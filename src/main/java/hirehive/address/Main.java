@@ -20,11 +20,17 @@ import javafx.application.Application;
  *
  * By having a separate main class (Main) that doesn't extend Application
  * to be the entry point of the application, we avoid this issue.
+ *
+ * It also lets the application run headless, without starting JavaFX at all.
  */
 public class Main {
     private static Logger logger = LogsCenter.getLogger(Main.class);
 
     public static void main(String[] args) {
+        AppParameters appParameters = AppParameters.parse(args);
+        if (appParameters.isHeadless()) {
+            System.exit(HeadlessApp.run(appParameters));
+        }
 
         // As per https://github.com/openjdk/jfx/blob/master/doc-files/release-notes-16.md
         // JavaFX 16 (or later) runtime logs a warning at startup if JavaFX classes are loaded from
@@ -0,0 +1,17 @@
+package hirehive.address.commons.core;
+
+/**
+ * How hard saves try to make sure that saved data survives the computer crashing, at the cost of slower saves.
+ * Saves replace files in one step at every level, so the app itself crashing never leaves a partly written file.
+ */
+public enum Durability {
+    /** Every save waits for its data to reach the disk. */
+    ALWAYS,
+    /**
+     * Saves wait for their data to reach the disk at most once every few seconds, and the data of the saves in
+     * between is made to reach it when those seconds are up, so a crash may lose the last few seconds of changes.
+     */
+    BATCHED,
+    /** Saves leave it to the operating system to write their data to the disk. */
+    NONE
+}
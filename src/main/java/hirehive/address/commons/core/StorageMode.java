@@ -0,0 +1,15 @@
+package hirehive.address.commons.core;
+
+/**
+ * The ways the address book can be stored on the hard disk.
+ */
+public enum StorageMode {
+    /** The whole address book is rewritten as a json file on every save. */
+    JSON,
+    /** Only the changes are appended to a journal next to a json snapshot of its own, rewritten now and then. */
+    JOURNAL,
+    /** The whole address book is rewritten on every save, in a compact binary file that is quick to load. */
+    BINARY,
+    /** Persons are split across several json files, and only the files holding changed persons are rewritten. */
+    SHARDED
+}
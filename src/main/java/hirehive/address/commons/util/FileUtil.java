@@ -1,10 +1,18 @@
 package hirehive.address.commons.util;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Writes and reads files
@@ -12,6 +20,7 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -80,4 +89,128 @@ public class FileUtil {
         Files.write(file, content.getBytes(CHARSET));
     }
 
+    /**
+     * Writes given string to a file by writing it to a temporary file next to it, then moving that over the file.
+     * The file therefore holds either its old or its new content if writing is interrupted.
+     * Will create the file and its missing parent directories if they do not exist yet.
+     * @param sync whether to wait for the content to reach the disk before the file is replaced
+     */
+    public static void writeToFileAtomically(Path file, String content, boolean sync) throws IOException {
+        writeToFileAtomically(file, out -> out.write(content.getBytes(CHARSET)), sync);
+    }
+
+    /**
+     * Similar to {@link #writeToFileAtomically(Path, String, boolean)}, but with the content written by
+     * {@code contentWriter} as it goes, so that the content need not be held in memory all at once.
+     */
+    public static void writeToFileAtomically(Path file, ContentWriter contentWriter, boolean sync)
+            throws IOException {
+        createParentDirsOfFile(file);
+        Path tempFile = getTempFile(file);
+        try {
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                OutputStream out = Channels.newOutputStream(channel);
+                contentWriter.writeTo(out);
+                out.flush();
+                if (sync) {
+                    channel.force(true);
+                }
+            }
+            moveIntoPlace(tempFile, file, sync);
+        } catch (IOException | RuntimeException e) {
+            try {
+                Files.deleteIfExists(tempFile);
+            } catch (IOException deleteException) {
+                e.addSuppressed(deleteException);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the temporary file next to {@code file} that its new content is written to before replacing it.
+     */
+    public static Path getTempFile(Path file) {
+        return file.resolveSibling(file.getFileName() + TEMP_FILE_SUFFIX);
+    }
+
+    /**
+     * Moves {@code source} over {@code target} in one step where the file system supports it, so that an interrupted
+     * move leaves either the old or the new file at {@code target}.
+     * @param sync whether to wait for the move to reach the disk
+     */
+    public static void moveIntoPlace(Path source, Path target, boolean sync) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+        if (sync) {
+            syncParentDir(target);
+        }
+    }
+
+    /**
+     * Waits for the content of {@code file}, and its entry in its directory, to reach the disk.
+     * Does nothing if the file no longer exists.
+     */
+    public static void syncFile(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        } catch (NoSuchFileException e) {
+            return; // deleted since, so there is nothing left to sync
+        }
+        syncParentDir(file);
+    }
+
+    /**
+     * Waits for the entries of the directory containing {@code file} to reach the disk, where the platform allows it.
+     */
+    private static void syncParentDir(Path file) {
+        Path parentDir = file.toAbsolutePath().getParent();
+        try (FileChannel channel = FileChannel.open(parentDir, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // some platforms, such as Windows, cannot open directories, and write their entries through anyway
+        }
+    }
+
+    /**
+     * Appends given string to the end of a file.
+     * Will create the file if it does not exist yet.
+     */
+    public static void appendToFile(Path file, String content) throws IOException {
+        appendToFile(file, content, false);
+    }
+
+    /**
+     * Appends given string to the end of a file.
+     * Will create the file if it does not exist yet.
+     * @param sync whether to wait for the content to reach the disk
+     */
+    public static void appendToFile(Path file, String content, boolean sync) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(content.getBytes(CHARSET));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            if (sync) {
+                channel.force(false);
+            }
+        }
+    }
+
+    /**
+     * Writes the content of a file to the stream given.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        /**
+         * Writes the content to {@code out}, which is closed by the caller.
+         */
+        void writeTo(OutputStream out) throws IOException;
+    }
+
 }
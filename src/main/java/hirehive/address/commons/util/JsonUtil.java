@@ -3,6 +3,7 @@ package hirehive.address.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -11,6 +12,8 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
@@ -91,6 +94,30 @@ public class JsonUtil {
         serializeObjectToJsonFile(filePath, jsonFile);
     }
 
+    /**
+     * Returns a parser reading the JSON data in the given file as it goes, rather than all at once.
+     * Values read through the parser with {@link JsonParser#readValueAs(Class)} are converted the same way as by
+     * {@link #readJsonFile(Path, Class)}.
+     * @param filePath cannot be null
+     * @throws IOException if the file cannot be opened
+     */
+    public static JsonParser createParser(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        return objectMapper.getFactory().createParser(Files.newInputStream(filePath));
+    }
+
+    /**
+     * Returns a generator writing JSON data to the given stream as it goes, in the format of {@link #toJsonString}.
+     * Values written through the generator with {@link JsonGenerator#writeObject(Object)} are converted the same way
+     * as by {@link #saveJsonFile(Object, Path)}. Closing the generator flushes it but does not close the stream.
+     * @param out cannot be null
+     */
+    public static JsonGenerator createGenerator(OutputStream out) throws IOException {
+        requireNonNull(out);
+        return objectMapper.getFactory().createGenerator(out)
+                .useDefaultPrettyPrinter()
+                .configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+    }
 
     /**
      * Converts a given string representation of a JSON data to instance of a class
@@ -111,6 +138,16 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation on a single line
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, in string without line breaks
+     */
+    public static <T> String toJsonLine(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
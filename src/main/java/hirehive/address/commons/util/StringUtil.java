@@ -85,7 +85,7 @@ public class StringUtil {
      */
     public static boolean isValidStringOrInteger(String s) {
         requireNonNull(s);
-        if (s.matches("-?\\d+")) {
+        if (isInteger(s)) {
             try {
                 long num = Long.parseLong(s);
                 return num >= Integer.MIN_VALUE && num <= Integer.MAX_VALUE;
@@ -96,4 +96,42 @@ public class StringUtil {
             return true;
         }
     }
+
+    /**
+     * Returns true if {@code s} is an optional minus sign followed by one or more ASCII digits.
+     * Equivalent to {@code s.matches("-?\\d+")}, without compiling a pattern on every call.
+     */
+    private static boolean isInteger(String s) {
+        int start = s.startsWith("-") ? 1 : 0;
+        if (start == s.length()) {
+            return false;
+        }
+        for (int i = start; i < s.length(); i++) {
+            if (!isAsciiDigit(s.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code c} is one of the ASCII digits, 0 to 9.
+     */
+    public static boolean isAsciiDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Returns true if {@code c} is one of the ASCII letters, A to Z in either case.
+     */
+    public static boolean isAsciiLetter(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z');
+    }
+
+    /**
+     * Returns true if {@code c} is an ASCII letter or digit.
+     */
+    public static boolean isAsciiAlphanumeric(char c) {
+        return isAsciiLetter(c) || isAsciiDigit(c);
+    }
 }
@@ -0,0 +1,171 @@
+package hirehive.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import hirehive.address.commons.core.LogsCenter;
+import hirehive.address.logic.commands.CommandResult;
+import hirehive.address.logic.commands.exceptions.CommandException;
+import hirehive.address.logic.parser.exceptions.ParseException;
+import hirehive.address.model.person.Note;
+import hirehive.address.model.person.Person;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+/**
+ * Executes commands one at a time on a background thread, so that the thread they are entered on stays responsive
+ * while they run.
+ * <p>
+ * Only the runner's thread uses {@code Logic} while commands run. After each command, the persons it leaves shown
+ * and the rest of its outcome are handed over in a single task on the publisher, in the order the commands were
+ * entered. The persons are shown in {@link #getDisplayedPersonList()}, which only those tasks change, so it can be
+ * observed from the publisher's thread.
+ */
+public class AsyncCommandRunner {
+
+    private static final Logger logger = LogsCenter.getLogger(AsyncCommandRunner.class);
+
+    private final Logic logic;
+    private final Consumer<Runnable> publisher;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(task -> {
+        Thread thread = new Thread(task, "command-runner");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final ObservableList<Person> displayedPersons;
+    private final ObservableList<Person> unmodifiableDisplayedPersons;
+
+    /** The persons last handed to the publisher. Only used on the runner's thread. */
+    private List<Person> lastShownPersons;
+
+    /**
+     * Creates a runner for commands to {@code logic} that hands their outcomes to {@code publisher}, such as
+     * {@code Platform::runLater}.
+     */
+    public AsyncCommandRunner(Logic logic, Consumer<Runnable> publisher) {
+        requireNonNull(logic);
+        requireNonNull(publisher);
+        this.logic = logic;
+        this.publisher = publisher;
+        lastShownPersons = new ArrayList<>(logic.getFilteredPersonList());
+        displayedPersons = FXCollections.observableArrayList(lastShownPersons);
+        unmodifiableDisplayedPersons = FXCollections.unmodifiableObservableList(displayedPersons);
+    }
+
+    /**
+     * Returns the persons shown after the last command whose outcome has been published.
+     */
+    public ObservableList<Person> getDisplayedPersonList() {
+        return unmodifiableDisplayedPersons;
+    }
+
+    /**
+     * Queues {@code commandText} to be executed after every command queued before it. Once it has run, the
+     * displayed persons are updated and {@code onDone} is called with its outcome, both in one task on the publisher.
+     */
+    public void execute(String commandText, Consumer<Outcome> onDone) {
+        requireNonNull(commandText);
+        requireNonNull(onDone);
+        executor.execute(() -> {
+            Outcome outcome = run(commandText);
+            List<Person> shownPersons = new ArrayList<>(logic.getFilteredPersonList());
+            boolean isShownPersonsChanged = !isSameInstances(shownPersons, lastShownPersons);
+            lastShownPersons = shownPersons;
+            publisher.accept(() -> {
+                if (isShownPersonsChanged) {
+                    displayedPersons.setAll(shownPersons);
+                }
+                onDone.accept(outcome);
+            });
+        });
+    }
+
+    private Outcome run(String commandText) {
+        try {
+            CommandResult result = logic.execute(commandText);
+            return new Outcome(result, null, logic.getPersonNote());
+        } catch (CommandException | ParseException e) {
+            return new Outcome(null, e.getMessage(), logic.getPersonNote());
+        } catch (RuntimeException e) {
+            logger.severe("Unexpected error while executing command: " + commandText + "\n" + e);
+            return new Outcome(null, e.getMessage(), logic.getPersonNote());
+        }
+    }
+
+    /**
+     * Waits for the queued commands to finish, then stops the runner's thread.
+     * Outcomes not yet published when this returns may never be.
+     */
+    public void close() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS)) {
+                logger.warning("Queued commands did not finish");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Returns true if {@code persons} and {@code otherPersons} hold the very same instances in the same order.
+     * Person#equals ignores the case of names, so equal lists may still show different names.
+     */
+    private static boolean isSameInstances(List<Person> persons, List<Person> otherPersons) {
+        if (persons.size() != otherPersons.size()) {
+            return false;
+        }
+        for (int i = 0; i < persons.size(); i++) {
+            if (persons.get(i) != otherPersons.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * The outcome of a command run by an {@code AsyncCommandRunner}.
+     */
+    public static class Outcome {
+        private final CommandResult result;
+        private final String errorMessage;
+        private final Note personNote;
+
+        Outcome(CommandResult result, String errorMessage, Note personNote) {
+            this.result = result;
+            this.errorMessage = errorMessage;
+            this.personNote = personNote;
+        }
+
+        /**
+         * Returns the result of the command, or {@code Optional.empty()} if it failed.
+         */
+        public Optional<CommandResult> getResult() {
+            return Optional.ofNullable(result);
+        }
+
+        /**
+         * Returns why the command failed, if it did.
+         */
+        public String getErrorMessage() {
+            return errorMessage;
+        }
+
+        /**
+         * Returns the note to show once the command has run.
+         *
+         * @see Logic#getPersonNote()
+         */
+        public Note getPersonNote() {
+            return personNote;
+        }
+    }
+}
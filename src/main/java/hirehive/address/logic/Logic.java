@@ -1,6 +1,7 @@
 package hirehive.address.logic;
 
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
 import hirehive.address.commons.core.GuiSettings;
 import hirehive.address.logic.commands.CommandResult;
@@ -50,6 +51,12 @@ public interface Logic {
      */
     void setGuiSettings(GuiSettings guiSettings);
 
+    /**
+     * Sets the handler given the error message of each save that fails after the command requesting it returned.
+     * The handler may be called from a background thread.
+     */
+    void setOnSaveFailure(Consumer<String> handler);
+
     Note getPersonNote();
     int getFilteredPersonListSize();
 }
@@ -3,6 +3,7 @@ package hirehive.address.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import hirehive.address.commons.core.GuiSettings;
@@ -16,6 +17,7 @@ import hirehive.address.model.Model;
 import hirehive.address.model.ReadOnlyAddressBook;
 import hirehive.address.model.person.Note;
 import hirehive.address.model.person.Person;
+import hirehive.address.storage.AsyncAddressBookSaver;
 import hirehive.address.storage.Storage;
 import javafx.collections.ObservableList;
 
@@ -32,15 +34,31 @@ public class LogicManager implements Logic {
 
     private final Model model;
     private final Storage storage;
+    /** Saves the address book in the background, or null if it is saved before each command returns. */
+    private final AsyncAddressBookSaver saver;
     private final AddressBookParser addressBookParser;
+    /** The version of the address book last written to storage, or last handed to {@code saver}. */
+    private long savedVersion;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * The address book is saved before each command that changes it returns.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, null);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} that saves the address book in the background with {@code saver}.
+     * A command that changes the address book returns before it is saved, and failed saves are reported to the
+     * handler set with {@link #setOnSaveFailure(Consumer)}.
+     */
+    public LogicManager(Model model, Storage storage, AsyncAddressBookSaver saver) {
         this.model = model;
         this.storage = storage;
+        this.saver = saver;
         addressBookParser = new AddressBookParser();
+        savedVersion = model.getAddressBook().getVersion();
     }
 
     @Override
@@ -51,17 +69,45 @@ public class LogicManager implements Logic {
         Command command = addressBookParser.parseCommand(commandText);
         commandResult = command.execute(model);
 
+        ReadOnlyAddressBook addressBook = model.getAddressBook();
+        if (saver != null) {
+            // a failed background save is retried with the next command, even if that command changed nothing
+            if (addressBook.getVersion() != savedVersion || saver.hasFailed()) {
+                saver.save(addressBook);
+                savedVersion = addressBook.getVersion();
+            }
+            return commandResult;
+        }
+
+        if (addressBook.getVersion() == savedVersion) {
+            // the command only read the data, so the file on disk is already up to date
+            return commandResult;
+        }
+
         try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
+            storage.saveAddressBook(addressBook);
+            savedVersion = addressBook.getVersion();
         } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            throw new CommandException(getSaveFailureMessage(ioe), ioe);
         }
 
         return commandResult;
     }
 
+    @Override
+    public void setOnSaveFailure(Consumer<String> handler) {
+        if (saver != null) {
+            saver.setFailureHandler(ioe -> handler.accept(getSaveFailureMessage(ioe)));
+        }
+    }
+
+    private static String getSaveFailureMessage(IOException ioe) {
+        if (ioe instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage());
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
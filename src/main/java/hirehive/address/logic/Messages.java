@@ -31,6 +31,8 @@ public class Messages {
     public static final String MESSAGE_FILTER_OVERVIEW_TAG = "Showing %s entries.";
     public static final String MESSAGE_FILTER_OVERVIEW_DATE = "Showing entries with interviews in %1$d days.";
     public static final String MESSAGE_FILTER_OVERVIEW_NAME = "Showing entries with keywords %s in name.";
+    public static final String MESSAGE_FILTER_OVERVIEW_NOTE =
+            "Showing entries with keywords %s in notes, best matches first.";
     public static final String MESSAGE_FILTEROUT_OVERVIEW_TAG = "Showing all entries without %s tag.";
     public static final String MESSAGE_EMPTY_ADDRESS_BOOK = "Current address book is empty. This might be due to corrupted data."
         + "\nWARNING: Please check if data/addressbook.json has old corrupted data and attempt to fix it, otherwise any new successful commands will overwrite those contents.";
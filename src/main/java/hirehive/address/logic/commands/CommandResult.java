@@ -25,15 +25,24 @@ public class CommandResult {
     /** Saved message should appear to the user */
     private final boolean isChange;
 
+    /** Part of what the command was asked to do failed, though the command itself succeeded. */
+    private final boolean hasFailures;
+
     /**
      * Constructs a {@code CommandResult} with the specified fields.
      */
     public CommandResult(String feedbackToUser, boolean showHelp, boolean exit, boolean showNote, boolean isChange) {
+        this(feedbackToUser, showHelp, exit, showNote, isChange, false);
+    }
+
+    private CommandResult(String feedbackToUser, boolean showHelp, boolean exit, boolean showNote, boolean isChange,
+            boolean hasFailures) {
         this.feedbackToUser = requireNonNull(feedbackToUser);
         this.showHelp = showHelp;
         this.exit = exit;
         this.showNote = showNote;
         this.isChange = isChange;
+        this.hasFailures = hasFailures;
     }
 
     /**
@@ -48,6 +57,14 @@ public class CommandResult {
         this(feedbackToUser, false, false, false, isChange);
     }
 
+    /**
+     * Constructs a {@code CommandResult} with the specified {@code feedbackToUser}, {@code isChange} and
+     * {@code hasFailures}, and other fields set to their default value.
+     */
+    public CommandResult(String feedbackToUser, boolean isChange, boolean hasFailures) {
+        this(feedbackToUser, false, false, false, isChange, hasFailures);
+    }
+
     public String getFeedbackToUser() {
         return feedbackToUser;
     }
@@ -68,6 +85,10 @@ public class CommandResult {
         return isChange;
     }
 
+    public boolean hasFailures() {
+        return hasFailures;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -84,7 +105,8 @@ public class CommandResult {
                 && showHelp == otherCommandResult.showHelp
                 && exit == otherCommandResult.exit
                 && showNote == otherCommandResult.showNote
-                && isChange == otherCommandResult.isChange;
+                && isChange == otherCommandResult.isChange
+                && hasFailures == otherCommandResult.hasFailures;
     }
 
     @Override
@@ -100,6 +122,7 @@ public class CommandResult {
                 .add("exit", exit)
                 .add("showNote", showNote)
                 .add("isChange", isChange)
+                .add("hasFailures", hasFailures)
                 .toString();
     }
 
@@ -101,6 +101,7 @@ public class EditCommand extends Command {
     /**
      * Creates and returns a {@code Person} with the details of {@code personToEdit}
      * edited with {@code editPersonDescriptor}.
+     * Fields not in {@code editPersonDescriptor} are shared with {@code personToEdit}, so they are not validated again.
      */
     protected static Person createEditedPerson(Person personToEdit, EditPersonDescriptor editPersonDescriptor) {
         assert personToEdit != null;
@@ -0,0 +1,53 @@
+package hirehive.address.logic.commands;
+
+import hirehive.address.commons.util.ToStringBuilder;
+import hirehive.address.model.Model;
+import hirehive.address.model.person.NoteContainsKeywordsPredicate;
+
+/**
+ * Finds and lists all persons in address book whose note contains any of the argument keywords, best matches first.
+ * Keyword matching is case-insensitive and only matches whole words.
+ */
+public class FindNoteCommand extends Command {
+
+    public static final String COMMAND_WORD = "findnote";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose notes contain any of "
+            + "the specified words (case-insensitive) and displays them as a list with index numbers, "
+            + "persons whose notes match more of the words first.\n"
+            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
+            + "Example: " + COMMAND_WORD + " kubernetes relocation";
+
+    private final NoteContainsKeywordsPredicate predicate;
+
+    public FindNoteCommand(NoteContainsKeywordsPredicate predicate) {
+        this.predicate = predicate;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        return CommandUtil.executeFilter(model, predicate);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FindNoteCommand)) {
+            return false;
+        }
+
+        FindNoteCommand otherFindNoteCommand = (FindNoteCommand) other;
+        return predicate.equals(otherFindNoteCommand.predicate);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("predicate", predicate)
+                .toString();
+    }
+}
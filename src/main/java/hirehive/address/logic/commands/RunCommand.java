@@ -0,0 +1,198 @@
+package hirehive.address.logic.commands;
+
+import static hirehive.address.logic.parser.CliSyntax.PREFIX_ATOMIC;
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import hirehive.address.commons.core.LogsCenter;
+import hirehive.address.commons.util.ToStringBuilder;
+import hirehive.address.logic.commands.exceptions.CommandException;
+import hirehive.address.logic.parser.AddressBookParser;
+import hirehive.address.logic.parser.exceptions.ParseException;
+import hirehive.address.model.Model;
+import hirehive.address.model.ModelManager;
+import hirehive.address.model.PersonChange;
+import hirehive.address.model.ReadOnlyAddressBook;
+
+/**
+ * Runs every command in a script file, one per line, as a single command.
+ * The commands are run against a copy of the address book, whose changes are applied all at once at the end, so that
+ * the address book is saved and shown again only once however many commands the script has.
+ */
+public class RunCommand extends Command {
+
+    public static final String COMMAND_WORD = "run";
+
+    /** Lines starting with this are comments, so that scripts can explain themselves. */
+    public static final String COMMENT_PREFIX = "#";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Runs the commands in a file, one per line. Blank lines and lines starting with "
+            + COMMENT_PREFIX + " are skipped.\n"
+            + "Commands that fail are skipped, unless " + PREFIX_ATOMIC + " is given, in which case no changes are"
+            + " made if any command fails.\n"
+            + "Indexes refer to the full list of applicants, unless the script filters it.\n"
+            + "The script stops at an exit line. Commands that only open a window, such as help, are not supported"
+            + " and fail; other windows are not opened.\n"
+            + "Parameters: FILE [" + PREFIX_ATOMIC + "]\n"
+            + "Example: " + COMMAND_WORD + " data/new_applicants.txt " + PREFIX_ATOMIC;
+
+    public static final String MESSAGE_SUCCESS = "Ran %1$d commands from %2$s: %3$d succeeded, %4$d failed.";
+    public static final String MESSAGE_ATOMIC_FAILURE =
+            "No changes were made, as %1$d of the %2$d commands from %3$s failed.";
+    public static final String MESSAGE_LINE_FAILURE = "Line %1$d: %2$s";
+    public static final String MESSAGE_MORE_FAILURES = "... and %1$d more.";
+    public static final String MESSAGE_READ_FAILURE = "Could not read %1$s: %2$s";
+    public static final String MESSAGE_NESTED_RUN = "Scripts cannot run other scripts.";
+    public static final String MESSAGE_UNSUPPORTED_WINDOW = "Scripts cannot open windows.";
+
+    /** The most failed lines that are listed, so that a badly broken script does not flood the result display. */
+    static final int MAX_LISTED_FAILURES = 20;
+
+    private static final Logger logger = LogsCenter.getLogger(RunCommand.class);
+
+    private final Path scriptPath;
+    private final boolean isAtomic;
+
+    /**
+     * Creates a RunCommand to run the commands in {@code scriptPath}, making no changes if any of them fail when
+     * {@code isAtomic} is true.
+     */
+    public RunCommand(Path scriptPath, boolean isAtomic) {
+        requireNonNull(scriptPath);
+        this.scriptPath = scriptPath;
+        this.isAtomic = isAtomic;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        // the copy has no views to update while the commands run
+        Model scriptModel = new ModelManager(model.getAddressBook(), model.getUserPrefs());
+        long startVersion = scriptModel.getAddressBook().getVersion();
+        AddressBookParser parser = new AddressBookParser();
+        List<String> failures = new ArrayList<>();
+        int commandCount = 0;
+
+        try (BufferedReader script = Files.newBufferedReader(scriptPath, StandardCharsets.UTF_8)) {
+            int lineNumber = 0;
+            for (String line = script.readLine(); line != null; line = script.readLine()) {
+                lineNumber++;
+                String commandText = line.strip();
+                if (commandText.isEmpty() || commandText.startsWith(COMMENT_PREFIX)) {
+                    continue;
+                }
+
+                commandCount++;
+                try {
+                    if (runLine(parser, commandText, scriptModel).isExit()) {
+                        break;
+                    }
+                } catch (CommandException | ParseException e) {
+                    failures.add(String.format(MESSAGE_LINE_FAILURE, lineNumber, getFirstLine(e.getMessage())));
+                }
+            }
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_READ_FAILURE, scriptPath, ioe.getMessage()), ioe);
+        }
+        logger.info("Ran " + commandCount + " commands from " + scriptPath + ", " + failures.size() + " failed");
+
+        if (isAtomic && !failures.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_ATOMIC_FAILURE, failures.size(), commandCount,
+                    scriptPath) + listFailures(failures));
+        }
+
+        boolean isChange = applyChanges(scriptModel.getAddressBook(), startVersion, model);
+        String feedback = String.format(MESSAGE_SUCCESS, commandCount, scriptPath,
+                commandCount - failures.size(), failures.size());
+        return new CommandResult(feedback + listFailures(failures), isChange, !failures.isEmpty());
+    }
+
+    /**
+     * Runs the command in {@code commandText} against {@code scriptModel}.
+     * Commands that do nothing but open a window fail, as scripts have no windows to open; the windows of commands
+     * that also make changes are not opened.
+     */
+    private static CommandResult runLine(AddressBookParser parser, String commandText, Model scriptModel)
+            throws CommandException, ParseException {
+        Command command = parser.parseCommand(commandText);
+        if (command instanceof RunCommand) {
+            throw new CommandException(MESSAGE_NESTED_RUN);
+        }
+        CommandResult result = command.execute(scriptModel);
+        if ((result.isShowHelp() || result.isShowNote()) && !result.isChange()) {
+            throw new CommandException(MESSAGE_UNSUPPORTED_WINDOW);
+        }
+        return result;
+    }
+
+    /**
+     * Applies the changes made to {@code scriptAddressBook} since {@code startVersion} to {@code model} in one batch.
+     * If they were too many to be recorded, the whole address book is replaced instead.
+     *
+     * @return whether there were any changes.
+     */
+    private static boolean applyChanges(ReadOnlyAddressBook scriptAddressBook, long startVersion, Model model) {
+        if (scriptAddressBook.getVersion() == startVersion) {
+            return false;
+        }
+
+        Optional<List<PersonChange>> changes = scriptAddressBook.getChangesSince(startVersion);
+        if (changes.isPresent()) {
+            model.applyBatch(batch -> changes.get().forEach(change -> change.applyTo(batch)));
+        } else {
+            model.setAddressBook(scriptAddressBook);
+        }
+        return true;
+    }
+
+    private static String listFailures(List<String> failures) {
+        StringBuilder list = new StringBuilder();
+        for (String failure : failures.subList(0, Math.min(failures.size(), MAX_LISTED_FAILURES))) {
+            list.append('\n').append(failure);
+        }
+        if (failures.size() > MAX_LISTED_FAILURES) {
+            list.append('\n').append(String.format(MESSAGE_MORE_FAILURES, failures.size() - MAX_LISTED_FAILURES));
+        }
+        return list.toString();
+    }
+
+    private static String getFirstLine(String message) {
+        int lineEnd = message.indexOf('\n');
+        return (lineEnd == -1 ? message : message.substring(0, lineEnd)).strip();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof RunCommand)) {
+            return false;
+        }
+
+        RunCommand otherRunCommand = (RunCommand) other;
+        return scriptPath.equals(otherRunCommand.scriptPath)
+                && isAtomic == otherRunCommand.isAtomic;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("scriptPath", scriptPath)
+                .add("isAtomic", isAtomic)
+                .toString();
+    }
+}
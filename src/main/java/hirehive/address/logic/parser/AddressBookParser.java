@@ -18,10 +18,12 @@ import hirehive.address.logic.commands.ExitCommand;
 import hirehive.address.logic.commands.FilterCommand;
 import hirehive.address.logic.commands.FilterOutCommand;
 import hirehive.address.logic.commands.FindCommand;
+import hirehive.address.logic.commands.FindNoteCommand;
 import hirehive.address.logic.commands.HelpCommand;
 import hirehive.address.logic.commands.ListCommand;
 import hirehive.address.logic.commands.NewNoteCommand;
 import hirehive.address.logic.commands.ReminderCommand;
+import hirehive.address.logic.commands.RunCommand;
 import hirehive.address.logic.commands.ScheduleCommand;
 import hirehive.address.logic.commands.SortCommand;
 import hirehive.address.logic.commands.TagCommand;
@@ -80,6 +82,9 @@ public class AddressBookParser {
         case FindCommand.COMMAND_WORD:
             return new FindCommandParser().parse(arguments);
 
+        case FindNoteCommand.COMMAND_WORD:
+            return new FindNoteCommandParser().parse(arguments);
+
         case ListCommand.COMMAND_WORD:
             return new ListCommand();
 
@@ -109,6 +114,9 @@ public class AddressBookParser {
 
         case FilterOutCommand.COMMAND_WORD:
             return new FilterOutCommandParser().parse(arguments);
+
+        case RunCommand.COMMAND_WORD:
+            return new RunCommandParser().parse(arguments);
         default:
             logger.finer("This user input caused a ParseException: " + userInput);
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
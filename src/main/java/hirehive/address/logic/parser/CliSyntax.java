@@ -14,4 +14,5 @@ public class CliSyntax {
     public static final Prefix PREFIX_TAG = new Prefix("t/");
     public static final Prefix PREFIX_DATE = new Prefix("id/");
     public static final Prefix PREFIX_NOTE = new Prefix("i/");
+    public static final Prefix PREFIX_ATOMIC = new Prefix("atomic/");
 }
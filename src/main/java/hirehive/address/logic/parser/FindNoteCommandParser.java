@@ -0,0 +1,28 @@
+package hirehive.address.logic.parser;
+
+import hirehive.address.logic.Messages;
+import hirehive.address.logic.commands.FindNoteCommand;
+import hirehive.address.logic.parser.exceptions.ParseException;
+import hirehive.address.model.person.NoteContainsKeywordsPredicate;
+
+/**
+ * Parses input arguments and creates a new FindNoteCommand object
+ */
+public class FindNoteCommandParser implements Parser<FindNoteCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FindNoteCommand
+     * and returns a FindNoteCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public FindNoteCommand parse(String args) throws ParseException {
+        NoteContainsKeywordsPredicate predicate = new NoteContainsKeywordsPredicate(args);
+        if (predicate.getKeywords().isEmpty()) {
+            throw new ParseException(
+                    String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, FindNoteCommand.MESSAGE_USAGE));
+        }
+
+        return new FindNoteCommand(predicate);
+    }
+
+}
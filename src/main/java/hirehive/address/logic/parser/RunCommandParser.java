@@ -0,0 +1,43 @@
+package hirehive.address.logic.parser;
+
+import static hirehive.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static hirehive.address.logic.parser.CliSyntax.PREFIX_ATOMIC;
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import hirehive.address.commons.util.FileUtil;
+import hirehive.address.logic.commands.RunCommand;
+import hirehive.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new RunCommand object
+ */
+public class RunCommandParser implements Parser<RunCommand> {
+
+    public static final String MESSAGE_INVALID_PATH = "The given file path is invalid.";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the RunCommand
+     * and returns a RunCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public RunCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_ATOMIC);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_ATOMIC);
+
+        String scriptPath = argMultimap.getPreamble();
+        Optional<String> atomicValue = argMultimap.getValue(PREFIX_ATOMIC);
+        // the atomic flag takes no value, so anything after it is a misplaced file path
+        if (scriptPath.isEmpty() || atomicValue.filter(value -> !value.isEmpty()).isPresent()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE));
+        }
+        if (!FileUtil.isValidPath(scriptPath)) {
+            throw new ParseException(MESSAGE_INVALID_PATH);
+        }
+
+        return new RunCommand(Paths.get(scriptPath), atomicValue.isPresent());
+    }
+}
@@ -2,20 +2,53 @@ package hirehive.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 
+import hirehive.address.commons.util.CollectionUtil;
 import hirehive.address.commons.util.ToStringBuilder;
+import hirehive.address.model.person.NameIndex;
+import hirehive.address.model.person.NoteIndex;
+import hirehive.address.model.person.OccupiedDates;
 import hirehive.address.model.person.Person;
 import hirehive.address.model.person.UniquePersonList;
+import hirehive.address.model.person.exceptions.PersonNotFoundException;
+import hirehive.address.model.tag.Tag;
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 
 /**
  * Wraps all data at the address-book level
  * Duplicates are not allowed (by .isSamePerson comparison)
+ * Persons are also bucketed by tag, each bucket keeping the order of the person list, and indexed by interview date,
+ * by the trigrams of their names and by the words in their notes.
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
+    /** The latest version of any address book, so that different data never has the same version. */
+    private static final AtomicLong latestVersion = new AtomicLong();
+
     private final UniquePersonList persons;
+    private final Map<Tag, ObservableList<Person>> personsByTag = new EnumMap<>(Tag.class);
+    private final Map<Tag, ObservableList<Person>> unmodifiablePersonsByTag = new EnumMap<>(Tag.class);
+    /** All persons ordered by interview date, persons without one last, ties in the order of the person list. */
+    private final ObservableList<Person> personsByDate = FXCollections.observableArrayList();
+    private final ObservableList<Person> unmodifiablePersonsByDate =
+            FXCollections.unmodifiableObservableList(personsByDate);
+    private OccupiedDates occupiedDates = new OccupiedDates();
+    private NameIndex nameIndex = new NameIndex();
+    private NoteIndex noteIndex = new NoteIndex();
+    /** Renewed on every change to the data, so that unchanged data need not be saved again. */
+    private long version = latestVersion.incrementAndGet();
+    private final ChangeLog changeLog = new ChangeLog();
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -26,16 +59,24 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     {
         persons = new UniquePersonList();
+        for (Tag tag : Tag.values()) {
+            ObservableList<Person> bucket = FXCollections.observableArrayList();
+            personsByTag.put(tag, bucket);
+            unmodifiablePersonsByTag.put(tag, FXCollections.unmodifiableObservableList(bucket));
+        }
     }
 
     public AddressBook() {}
 
     /**
-     * Creates an AddressBook using the Persons in the {@code toBeCopied}
+     * Creates an AddressBook using the Persons in the {@code toBeCopied}.
+     * The copy has the same version, as it holds the same data, so storage that saved or read {@code toBeCopied}
+     * can tell what changed in the copy since.
      */
     public AddressBook(ReadOnlyAddressBook toBeCopied) {
         this();
         resetData(toBeCopied);
+        version = toBeCopied.getVersion();
     }
 
     //// list overwrite operations
@@ -46,6 +87,8 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        rebuildIndexes();
+        recordReset();
     }
 
     /**
@@ -54,6 +97,13 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
 
+        if (newData instanceof AddressBook) {
+            // already known to be unique, so its identity index can be copied instead of rebuilt
+            persons.setPersons(((AddressBook) newData).persons);
+            rebuildIndexes();
+            recordReset();
+            return;
+        }
         setPersons(newData.getPersonList());
     }
 
@@ -73,6 +123,13 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addPerson(Person p) {
         persons.add(p);
+        personsByTag.get(p.getTag()).add(p);
+        // the new person is last in the person list, so it goes after every person with the same date
+        personsByDate.add(upperBound(getIndexDate(p)), p);
+        p.getDate().getValue().ifPresent(occupiedDates::add);
+        nameIndex.add(p);
+        noteIndex.add(p);
+        recordChange(PersonChange.add(p));
     }
 
     /**
@@ -83,7 +140,18 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void setPerson(Person target, Person editedPerson) {
         requireNonNull(editedPerson);
 
+        int tagBucketPosition = indexOfInTagBucket(target);
+        int dateIndexPosition = indexOfInDateIndex(target);
         persons.setPerson(target, editedPerson);
+        updateTagBuckets(target, tagBucketPosition, editedPerson);
+        updateDateIndex(target, dateIndexPosition, editedPerson);
+        nameIndex.remove(target);
+        nameIndex.add(editedPerson);
+        if (!target.getNote().equals(editedPerson.getNote()) || !target.isSamePerson(editedPerson)) {
+            noteIndex.remove(target);
+            noteIndex.add(editedPerson);
+        }
+        recordChange(PersonChange.set(target, editedPerson));
     }
 
     /**
@@ -91,7 +159,311 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code key} must exist in the address book.
      */
     public void removePerson(Person key) {
+        int tagBucketPosition = indexOfInTagBucket(key);
+        int dateIndexPosition = indexOfInDateIndex(key);
         persons.remove(key);
+        personsByTag.get(key.getTag()).remove(tagBucketPosition);
+        personsByDate.remove(dateIndexPosition);
+        key.getDate().getValue().ifPresent(occupiedDates::remove);
+        nameIndex.remove(key);
+        noteIndex.remove(key);
+        recordChange(PersonChange.remove(key));
+    }
+
+    //// batch operations
+
+    /**
+     * Makes {@code changes} to this address book all at once, or not at all.
+     * {@code changes} is given a copy of this address book to change, which nothing observes. If it throws, the copy
+     * is dropped and this address book is left as it was. Otherwise the copy's data is taken over, so that the person
+     * list, each tag bucket and the date index report a single change however many persons were changed.
+     */
+    public void applyBatch(Consumer<AddressBook> changes) {
+        requireNonNull(changes);
+        AddressBook batch = new AddressBook(this);
+        long batchStartVersion = batch.version;
+        changes.accept(batch);
+        if (batch.version == batchStartVersion) {
+            return;
+        }
+
+        persons.setPersons(batch.persons);
+        for (Tag tag : Tag.values()) {
+            personsByTag.get(tag).setAll(batch.personsByTag.get(tag));
+        }
+        personsByDate.setAll(batch.personsByDate);
+        // the copy is dropped, so its unobserved indexes can be taken over instead of rebuilt
+        occupiedDates = batch.occupiedDates;
+        nameIndex = batch.nameIndex;
+        noteIndex = batch.noteIndex;
+
+        Optional<List<PersonChange>> batchChanges = batch.getChangesSince(batchStartVersion);
+        if (batchChanges.isPresent()) {
+            batchChanges.get().forEach(this::recordChange);
+        } else {
+            recordReset();
+        }
+    }
+
+    /**
+     * Moves to a new version after {@code change} was made.
+     */
+    private void recordChange(PersonChange change) {
+        long previousVersion = version;
+        version = latestVersion.incrementAndGet();
+        changeLog.record(previousVersion, version, change);
+    }
+
+    /**
+     * Moves to a new version after the data was replaced wholesale, which is not recorded as individual changes.
+     */
+    private void recordReset() {
+        version = latestVersion.incrementAndGet();
+        changeLog.clear();
+    }
+
+    /**
+     * Returns a copy of the log of recent changes that later changes to this address book do not affect.
+     */
+    ChangeLog copyChangeLog() {
+        return changeLog.copy();
+    }
+
+    //// tag bucket operations
+
+    /**
+     * Returns an unmodifiable view of the persons tagged with {@code tag}, in the order of the person list.
+     * The view stays up to date as persons are added, edited and removed.
+     */
+    public ObservableList<Person> getPersonsWithTag(Tag tag) {
+        requireNonNull(tag);
+        return unmodifiablePersonsByTag.get(tag);
+    }
+
+    /**
+     * Returns the number of persons tagged with {@code tag}.
+     */
+    public int countPersonsWithTag(Tag tag) {
+        requireNonNull(tag);
+        return personsByTag.get(tag).size();
+    }
+
+    /**
+     * Moves {@code target}, at {@code targetPosition} in its tag bucket, out of it and puts {@code editedPerson},
+     * already in the person list, where it belongs.
+     */
+    private void updateTagBuckets(Person target, int targetPosition, Person editedPerson) {
+        ObservableList<Person> targetBucket = personsByTag.get(target.getTag());
+        if (target.getTag() == editedPerson.getTag()) {
+            targetBucket.set(targetPosition, editedPerson);
+            return;
+        }
+        targetBucket.remove(targetPosition);
+        ObservableList<Person> editedBucket = personsByTag.get(editedPerson.getTag());
+        editedBucket.add(ordinalLowerBound(editedBucket, 0, editedBucket.size(), persons.getOrdinal(editedPerson)),
+                editedPerson);
+    }
+
+    /**
+     * Returns the position of {@code person} in its tag bucket.
+     */
+    private int indexOfInTagBucket(Person person) {
+        ObservableList<Person> bucket = personsByTag.get(person.getTag());
+        return indexOf(bucket, 0, bucket.size(), person);
+    }
+
+    /**
+     * Returns the position of {@code person} from {@code from} to {@code to}, exclusive, in {@code sortedPersons},
+     * which must hold persons in the person list, in its order, in that range.
+     *
+     * @throws PersonNotFoundException if {@code person} is not in that range.
+     */
+    private int indexOf(List<Person> sortedPersons, int from, int to, Person person) {
+        int position = ordinalLowerBound(sortedPersons, from, to, persons.getOrdinal(person));
+        if (position == to || !sortedPersons.get(position).equals(person)) {
+            throw new PersonNotFoundException();
+        }
+        return position;
+    }
+
+    /**
+     * Returns the position of the first person from {@code from} to {@code to}, exclusive, in {@code sortedPersons}
+     * whose ordinal in the person list is not less than {@code ordinal}, or {@code to} if there is none.
+     * {@code sortedPersons} must hold persons in the person list, in its order, in that range.
+     */
+    private int ordinalLowerBound(List<Person> sortedPersons, int from, int to, long ordinal) {
+        int low = from;
+        int high = to;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (persons.getOrdinal(sortedPersons.get(mid)) < ordinal) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    //// date index operations
+
+    /**
+     * Returns an unmodifiable view of all persons ordered by interview date, persons without a date last.
+     * Persons with the same date keep the order of the person list.
+     * The view stays up to date as persons are added, edited and removed.
+     */
+    public ObservableList<Person> getPersonsByDate() {
+        return unmodifiablePersonsByDate;
+    }
+
+    /**
+     * Returns the persons with an interview from {@code startDate} to {@code endDate}, both inclusive,
+     * ordered by interview date.
+     */
+    public List<Person> getPersonsWithDateBetween(LocalDate startDate, LocalDate endDate) {
+        CollectionUtil.requireAllNonNull(startDate, endDate);
+        int from = lowerBound(startDate);
+        int to = upperBound(endDate);
+        if (from >= to) {
+            return new ArrayList<>();
+        }
+        return new ArrayList<>(personsByDate.subList(from, to));
+    }
+
+    /**
+     * Returns the earliest date on or after {@code from} on which no interview is scheduled.
+     */
+    public LocalDate getNextFreeDate(LocalDate from) {
+        requireNonNull(from);
+        return occupiedDates.nextFreeDate(from);
+    }
+
+    /**
+     * Moves {@code target}, at {@code targetPosition} in the date index, out of it and the occupied dates, and puts
+     * {@code editedPerson}, already in the person list, in.
+     */
+    private void updateDateIndex(Person target, int targetPosition, Person editedPerson) {
+        if (getIndexDate(target).equals(getIndexDate(editedPerson))) {
+            personsByDate.set(targetPosition, editedPerson);
+            return;
+        }
+        personsByDate.remove(targetPosition);
+        LocalDate date = getIndexDate(editedPerson);
+        // persons sharing the date are in the order of the person list, so the ordinal decides where this one goes
+        int position = ordinalLowerBound(personsByDate, lowerBound(date), upperBound(date),
+                persons.getOrdinal(editedPerson));
+        personsByDate.add(position, editedPerson);
+        target.getDate().getValue().ifPresent(occupiedDates::remove);
+        editedPerson.getDate().getValue().ifPresent(occupiedDates::add);
+    }
+
+    /**
+     * Returns the position of {@code person} in the date index.
+     */
+    private int indexOfInDateIndex(Person person) {
+        LocalDate date = getIndexDate(person);
+        return indexOf(personsByDate, lowerBound(date), upperBound(date), person);
+    }
+
+    /**
+     * Returns the position of the first person in the date index whose date is not before {@code date}.
+     */
+    private int lowerBound(LocalDate date) {
+        int low = 0;
+        int high = personsByDate.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (getIndexDate(personsByDate.get(mid)).isBefore(date)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the position of the first person in the date index whose date is after {@code date}.
+     */
+    private int upperBound(LocalDate date) {
+        int low = 0;
+        int high = personsByDate.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (getIndexDate(personsByDate.get(mid)).isAfter(date)) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the date {@code person} is indexed under, {@link LocalDate#MAX} if they have no interview date.
+     */
+    private static LocalDate getIndexDate(Person person) {
+        return person.getDate().getValue().orElse(LocalDate.MAX);
+    }
+
+    //// name index operations
+
+    /**
+     * Returns the persons whose names may contain {@code keyword}, ignoring case, in the order of the person list.
+     * {@code keyword} must be long enough to be looked up, as checked by {@link NameIndex#canNarrow(String)}.
+     */
+    public List<Person> getNameCandidates(String keyword) {
+        requireNonNull(keyword);
+        return persons.getPersonsInListOrder(nameIndex.getCandidates(keyword));
+    }
+
+    //// note index operations
+
+    /**
+     * Returns the persons whose notes contain any of {@code keywords}, most relevant first.
+     * Persons whose notes are equally relevant keep the order of the person list.
+     * Each keyword must already be a single case-folded word, as returned by {@link NoteIndex#tokenize(String)}.
+     */
+    public List<Person> getPersonsWithNoteKeywords(Collection<String> keywords) {
+        requireNonNull(keywords);
+        Map<String, NoteIndex.Relevance> matches = noteIndex.getMatches(keywords);
+        List<Person> matchingPersons = persons.getPersonsInListOrder(matches.keySet());
+        matchingPersons.sort(Comparator.comparing(person -> matches.get(person.getIdentityKey())));
+        return matchingPersons;
+    }
+
+    /**
+     * Rebuilds the tag buckets and the date, name and note indexes from the person list.
+     */
+    private void rebuildIndexes() {
+        rebuildTagBuckets();
+        List<Person> sortedPersons = new ArrayList<>(persons.asUnmodifiableObservableList());
+        sortedPersons.sort(Comparator.comparing(AddressBook::getIndexDate));
+        personsByDate.setAll(sortedPersons);
+        occupiedDates.clear();
+        nameIndex.clear();
+        noteIndex.clear();
+        for (Person person : sortedPersons) {
+            person.getDate().getValue().ifPresent(occupiedDates::add);
+            nameIndex.add(person);
+            noteIndex.add(person);
+        }
+    }
+
+    /**
+     * Refills every tag bucket from the person list.
+     */
+    private void rebuildTagBuckets() {
+        Map<Tag, List<Person>> newBuckets = new EnumMap<>(Tag.class);
+        for (Tag tag : Tag.values()) {
+            newBuckets.put(tag, new ArrayList<>());
+        }
+        for (Person person : persons) {
+            newBuckets.get(person.getTag()).add(person);
+        }
+        for (Tag tag : Tag.values()) {
+            personsByTag.get(tag).setAll(newBuckets.get(tag));
+        }
     }
 
     //// util methods
@@ -108,6 +480,16 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.asUnmodifiableObservableList();
     }
 
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public Optional<List<PersonChange>> getChangesSince(long version) {
+        return changeLog.getChangesSince(version, this.version);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -0,0 +1,49 @@
+package hirehive.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Optional;
+
+import hirehive.address.model.person.Person;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+/**
+ * A copy of the persons in an address book at one version, which later changes to the address book do not affect.
+ * Persons are immutable, so a snapshot can be read from another thread while the address book keeps changing.
+ */
+public class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final ObservableList<Person> persons;
+    private final long version;
+    private final ChangeLog changeLog;
+
+    /**
+     * Creates a snapshot of the current persons in {@code addressBook}.
+     */
+    public AddressBookSnapshot(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        persons = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(addressBook.getPersonList()));
+        version = addressBook.getVersion();
+        changeLog = addressBook instanceof AddressBook
+                ? ((AddressBook) addressBook).copyChangeLog()
+                : new ChangeLog();
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public Optional<List<PersonChange>> getChangesSince(long version) {
+        return changeLog.getChangesSince(version, this.version);
+    }
+}
@@ -0,0 +1,79 @@
+package hirehive.address.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * The latest changes made to an address book, each with the versions of the address book before and after it.
+ * Only about the latest {@link #CAPACITY} changes are kept, and older ones are forgotten.
+ */
+class ChangeLog {
+    static final int CAPACITY = 128;
+
+    private final List<Entry> entries;
+
+    ChangeLog() {
+        entries = new ArrayList<>();
+    }
+
+    private ChangeLog(List<Entry> entries) {
+        this.entries = entries;
+    }
+
+    /**
+     * Records {@code change}, which took the address book from {@code previousVersion} to {@code version}.
+     */
+    void record(long previousVersion, long version, PersonChange change) {
+        entries.add(new Entry(previousVersion, version, change));
+        if (entries.size() > 2 * CAPACITY) {
+            // trimmed in bulk so that recording a change stays O(1) on average
+            entries.subList(0, entries.size() - CAPACITY).clear();
+        }
+    }
+
+    /**
+     * Forgets every change, after the data of the address book was replaced wholesale.
+     */
+    void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Returns a copy of this log that later changes to this log do not affect.
+     */
+    ChangeLog copy() {
+        return new ChangeLog(new ArrayList<>(entries));
+    }
+
+    /**
+     * Returns the changes that took the address book from {@code version} to {@code currentVersion}, oldest first,
+     * or an empty Optional if they are not all in this log.
+     */
+    Optional<List<PersonChange>> getChangesSince(long version, long currentVersion) {
+        if (version == currentVersion) {
+            return Optional.of(List.of());
+        }
+        if (entries.isEmpty() || entries.get(entries.size() - 1).version != currentVersion) {
+            return Optional.empty();
+        }
+        for (int i = entries.size() - 1; i >= 0; i--) {
+            if (entries.get(i).previousVersion == version) {
+                return Optional.of(entries.subList(i, entries.size()).stream().map(entry -> entry.change).toList());
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static class Entry {
+        private final long previousVersion;
+        private final long version;
+        private final PersonChange change;
+
+        Entry(long previousVersion, long version, PersonChange change) {
+            this.previousVersion = previousVersion;
+            this.version = version;
+            this.change = change;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package hirehive.address.model;
 
 import java.nio.file.Path;
 import java.time.LocalDate;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import hirehive.address.commons.core.GuiSettings;
@@ -79,6 +80,14 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Makes {@code changes} to the address book all at once, or not at all if {@code changes} throws.
+     * However many persons are changed, views of the address book are only updated once.
+     *
+     * @see AddressBook#applyBatch(Consumer)
+     */
+    void applyBatch(Consumer<AddressBook> changes);
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
@@ -4,38 +4,52 @@ import static java.util.Objects.requireNonNull;
 
 import java.nio.file.Path;
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
-import java.time.format.ResolverStyle;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
-import java.util.stream.Stream;
 
 import hirehive.address.commons.core.GuiSettings;
 import hirehive.address.commons.core.LogsCenter;
 import hirehive.address.commons.util.CollectionUtil;
 import hirehive.address.model.person.InterviewDate;
+import hirehive.address.model.person.NameContainsKeywordsPredicate;
+import hirehive.address.model.person.NameIndex;
 import hirehive.address.model.person.Note;
+import hirehive.address.model.person.NoteContainsKeywordsPredicate;
 import hirehive.address.model.person.Person;
+import hirehive.address.model.person.PersonContainsTagPredicate;
+import hirehive.address.model.person.UpcomingInterviewPredicate;
+import javafx.beans.binding.Bindings;
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
-import javafx.collections.transformation.SortedList;
 
 /**
  * Represents the in-memory model of the address book data.
  */
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
+    private static final Comparator<Person> INTERVIEW_DATE_ORDER = Comparator.comparing(
+            person -> person.getDate().getValue().orElse(LocalDate.MAX));
 
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
+    /**
+     * Holds every person that can pass {@code currFilter}, in display order, and is what {@code filteredPersons}
+     * filters. It mirrors the whole person list, a tag bucket or the date index, or holds the result of an index
+     * lookup.
+     */
+    private final ObservableList<Person> sourcePersons = FXCollections.observableArrayList();
+    /** The live view {@code sourcePersons} mirrors, or null if it holds a copy. */
+    private ObservableList<Person> currSource;
     private final FilteredList<Person> filteredPersons;
     private Note personNote;
-    private final SortedList<Person> sortedPersons;
     private boolean isSorted = false;
 
-    private Predicate<Person> currFilter = PREDICATE_SHOW_ALL_PERSONS;
+    private PersonFilter currFilter = PersonFilter.ALL;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -47,9 +61,9 @@ public class ModelManager implements Model {
 
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
-        filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        refreshSource();
+        filteredPersons = new FilteredList<>(sourcePersons);
         personNote = new Note(Note.DEFAULT_NOTE);
-        this.sortedPersons = new SortedList<>(filteredPersons);
     }
 
     public ModelManager() {
@@ -96,6 +110,7 @@ public class ModelManager implements Model {
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
         this.addressBook.resetData(addressBook);
+        refreshLookup();
     }
 
     @Override
@@ -112,11 +127,13 @@ public class ModelManager implements Model {
     @Override
     public void deletePerson(Person target) {
         addressBook.removePerson(target);
+        refreshLookup();
     }
 
     @Override
     public void addPerson(Person person) {
         addressBook.addPerson(person);
+        refreshLookup();
         unfilterPersonList();
     }
 
@@ -125,6 +142,14 @@ public class ModelManager implements Model {
         CollectionUtil.requireAllNonNull(target, editedPerson);
 
         addressBook.setPerson(target, editedPerson);
+        refreshLookup();
+    }
+
+    @Override
+    public void applyBatch(Consumer<AddressBook> changes) {
+        requireNonNull(changes);
+        addressBook.applyBatch(changes);
+        refreshLookup();
     }
 
     //=========== Filtered Person List Accessors =============================================================
@@ -135,37 +160,118 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return sortedPersons;
+        return filteredPersons;
     }
 
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        currFilter = currFilter.and(predicate);
+        currFilter = currFilter.with(predicate);
         filteredPersons.setPredicate(currFilter);
         resetSorting();
     }
 
     @Override
     public void unfilterPersonList() {
-        currFilter = PREDICATE_SHOW_ALL_PERSONS;
-        filteredPersons.setPredicate(PREDICATE_SHOW_ALL_PERSONS);
+        currFilter = PersonFilter.ALL;
+        filteredPersons.setPredicate(currFilter);
         resetSorting();
     }
 
     @Override
     public void sortPersons() {
-        Comparator<Person> comparator = Comparator.comparing(
-                person -> person.getDate().getValue().orElse(LocalDate.MAX)
-        );
-        sortedPersons.setComparator(comparator);
         isSorted = true;
+        refreshSource();
     }
 
     @Override
     public void resetSorting() {
-        sortedPersons.setComparator(null);
         isSorted = false;
+        refreshSource();
+    }
+
+    /**
+     * Points {@code sourcePersons} at the narrowest view of the address book that still holds every person
+     * that can pass {@code currFilter}, in display order.
+     */
+    private void refreshSource() {
+        if (currFilter.isContradiction()) {
+            unbindSource();
+            sourcePersons.clear();
+            return;
+        }
+
+        Optional<List<Person>> candidates = lookUpCandidates();
+        if (candidates.isPresent()) {
+            unbindSource();
+            List<Person> lookedUpPersons = candidates.get();
+            if (isSorted) {
+                lookedUpPersons.sort(INTERVIEW_DATE_ORDER);
+            }
+            sourcePersons.setAll(lookedUpPersons);
+        } else if (isSorted) {
+            bindSource(addressBook.getPersonsByDate());
+        } else {
+            // only persons in the tag's bucket can match, so the rest of the list need not be filtered
+            bindSource(currFilter.getTerm(PersonContainsTagPredicate.class)
+                    .map(term -> addressBook.getPersonsWithTag(term.getTag()))
+                    .orElse(addressBook.getPersonList()));
+        }
+    }
+
+    /**
+     * Returns the persons that can pass {@code currFilter} according to one of the address book's indexes,
+     * or an empty {@code Optional} if none of the filter's predicates can be looked up in an index.
+     */
+    private Optional<List<Person>> lookUpCandidates() {
+        // the note index also ranks the matches, so it takes precedence to keep the most relevant first
+        Optional<NoteContainsKeywordsPredicate> noteTerm = currFilter.getTerm(NoteContainsKeywordsPredicate.class);
+        if (noteTerm.isPresent()) {
+            return Optional.of(addressBook.getPersonsWithNoteKeywords(noteTerm.get().getKeywords()));
+        }
+
+        // only persons whose names share every trigram with the keyword can match
+        Optional<String> nameKeyword = currFilter.getTerm(NameContainsKeywordsPredicate.class)
+                .map(NameContainsKeywordsPredicate::getKeyword)
+                .filter(NameIndex::canNarrow);
+        if (nameKeyword.isPresent()) {
+            return Optional.of(addressBook.getNameCandidates(nameKeyword.get()));
+        }
+
+        // only persons in the date range can match
+        return currFilter.getTerm(UpcomingInterviewPredicate.class)
+                .map(range -> addressBook.getPersonsWithDateBetween(range.getStartDate(), range.getEndDate()));
+    }
+
+    /**
+     * Looks up the persons being shown again if {@code sourcePersons} holds a copy rather than a live view.
+     */
+    private void refreshLookup() {
+        if (currSource == null) {
+            refreshSource();
+        }
+    }
+
+    /**
+     * Makes {@code sourcePersons} mirror {@code source}, which must be a live view of the address book.
+     */
+    private void bindSource(ObservableList<Person> source) {
+        if (source == currSource) {
+            return;
+        }
+        unbindSource();
+        Bindings.bindContent(sourcePersons, source);
+        currSource = source;
+    }
+
+    /**
+     * Stops {@code sourcePersons} from mirroring a live view of the address book.
+     */
+    private void unbindSource() {
+        if (currSource != null) {
+            Bindings.unbindContent(sourcePersons, currSource);
+            currSource = null;
+        }
     }
 
 
@@ -190,26 +296,8 @@ public class ModelManager implements Model {
      */
     @Override
     public InterviewDate getAvailableDate() {
-        List<LocalDate> sortedAllDates = this.addressBook.getPersonList().stream()
-                .map(person -> person.getDate().getValue().orElse(LocalDate.MAX))
-                .sorted(LocalDate::compareTo).toList();
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd/MM/uuuu")
-                .withResolverStyle(ResolverStyle.STRICT);
-        LocalDate iterationDate = LocalDate.now().plusDays(1);
-        boolean bContinue = true;
-        int i = 0;
-        while (i < sortedAllDates.size() && sortedAllDates.get(i) != LocalDate.MAX && bContinue) {
-            LocalDate currDate = sortedAllDates.get(i);
-            if (currDate.isBefore(iterationDate)) {
-                i++;
-            } else if (currDate.isAfter(iterationDate)) {
-                bContinue = false;
-            } else {
-                iterationDate = iterationDate.plusDays(1);
-                i++;
-            }
-        }
-        return new InterviewDate(iterationDate.format(formatter));
+        LocalDate availableDate = addressBook.getNextFreeDate(LocalDate.now().plusDays(1));
+        return InterviewDate.of(availableDate);
     }
 
     @Override
@@ -0,0 +1,128 @@
+package hirehive.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import hirehive.address.commons.util.CollectionUtil;
+import hirehive.address.commons.util.ToStringBuilder;
+import hirehive.address.model.person.Person;
+
+/**
+ * A change to an {@code AddressBook} that adds, replaces or removes a single person.
+ * Guarantees: immutable.
+ */
+public class PersonChange {
+
+    /**
+     * The kinds of change, named after the {@code AddressBook} methods making them.
+     */
+    public enum Type {
+        ADD, SET, REMOVE
+    }
+
+    private final Type type;
+    private final Person person;
+    private final Person editedPerson;
+
+    private PersonChange(Type type, Person person, Person editedPerson) {
+        this.type = type;
+        this.person = person;
+        this.editedPerson = editedPerson;
+    }
+
+    /**
+     * Returns the change made by {@link AddressBook#addPerson(Person)}.
+     */
+    public static PersonChange add(Person person) {
+        requireNonNull(person);
+        return new PersonChange(Type.ADD, person, null);
+    }
+
+    /**
+     * Returns the change made by {@link AddressBook#setPerson(Person, Person)}.
+     */
+    public static PersonChange set(Person target, Person editedPerson) {
+        CollectionUtil.requireAllNonNull(target, editedPerson);
+        return new PersonChange(Type.SET, target, editedPerson);
+    }
+
+    /**
+     * Returns the change made by {@link AddressBook#removePerson(Person)}.
+     */
+    public static PersonChange remove(Person person) {
+        requireNonNull(person);
+        return new PersonChange(Type.REMOVE, person, null);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Returns the person added or removed, or the person replaced if this is a {@code SET}.
+     */
+    public Person getPerson() {
+        return person;
+    }
+
+    /**
+     * Returns the person replacing {@link #getPerson()}, if this is a {@code SET}.
+     */
+    public Optional<Person> getEditedPerson() {
+        return Optional.ofNullable(editedPerson);
+    }
+
+    /**
+     * Makes this change to {@code addressBook}.
+     * It must be possible to make the change, as described by the {@code AddressBook} method making it.
+     */
+    public void applyTo(AddressBook addressBook) {
+        requireNonNull(addressBook);
+        switch (type) {
+        case ADD:
+            addressBook.addPerson(person);
+            break;
+        case SET:
+            addressBook.setPerson(person, editedPerson);
+            break;
+        case REMOVE:
+            addressBook.removePerson(person);
+            break;
+        default:
+            throw new AssertionError("Unknown change type: " + type);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonChange)) {
+            return false;
+        }
+
+        PersonChange otherPersonChange = (PersonChange) other;
+        return type == otherPersonChange.type
+                && person.equals(otherPersonChange.person)
+                && Objects.equals(editedPerson, otherPersonChange.editedPerson);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, person, editedPerson);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("type", type)
+                .add("person", person)
+                .add("editedPerson", editedPerson)
+                .toString();
+    }
+}
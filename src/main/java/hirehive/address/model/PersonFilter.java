@@ -0,0 +1,136 @@
+package hirehive.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import hirehive.address.commons.util.ToStringBuilder;
+import hirehive.address.model.person.Person;
+import hirehive.address.model.person.PersonPredicate;
+
+/**
+ * An immutable conjunction of predicates, kept in a normalized form as predicates are added to it.
+ * A predicate already implied by the conjunction is not added, and predicates implied by a new predicate are dropped.
+ * A predicate contradicting the conjunction turns it into one that rejects every person without testing anything.
+ * The remaining predicates are tested cheapest first.
+ */
+public class PersonFilter implements Predicate<Person> {
+
+    /** A filter that accepts every person. */
+    public static final PersonFilter ALL = new PersonFilter(Collections.emptyList(), false);
+
+    private static final Comparator<Predicate<Person>> CHEAPEST_FIRST = Comparator.comparingInt(term ->
+            term instanceof PersonPredicate ? ((PersonPredicate) term).getCost() : Integer.MAX_VALUE);
+
+    private final List<Predicate<Person>> terms;
+    private final boolean isContradiction;
+
+    private PersonFilter(List<Predicate<Person>> terms, boolean isContradiction) {
+        this.terms = terms;
+        this.isContradiction = isContradiction;
+    }
+
+    /**
+     * Returns a filter accepting the persons accepted by both this filter and {@code predicate}.
+     */
+    public PersonFilter with(Predicate<Person> predicate) {
+        requireNonNull(predicate);
+        if (isContradiction || predicate == Model.PREDICATE_SHOW_ALL_PERSONS) {
+            return this;
+        }
+        if (!(predicate instanceof PersonPredicate)) {
+            return terms.contains(predicate) ? this : withTerms(terms, predicate);
+        }
+
+        PersonPredicate newTerm = (PersonPredicate) predicate;
+        List<Predicate<Person>> keptTerms = new ArrayList<>();
+        for (Predicate<Person> term : terms) {
+            if (!(term instanceof PersonPredicate)) {
+                keptTerms.add(term);
+                continue;
+            }
+            PersonPredicate personTerm = (PersonPredicate) term;
+            if (personTerm.implies(newTerm)) {
+                return this;
+            }
+            if (personTerm.contradicts(newTerm) || newTerm.contradicts(personTerm)) {
+                return new PersonFilter(Collections.emptyList(), true);
+            }
+            if (!newTerm.implies(personTerm)) {
+                keptTerms.add(term);
+            }
+        }
+        return withTerms(keptTerms, newTerm);
+    }
+
+    /**
+     * Returns true if no person can pass this filter.
+     */
+    public boolean isContradiction() {
+        return isContradiction;
+    }
+
+    /**
+     * Returns the first predicate of this filter that is of the given {@code type}, if any.
+     */
+    public <T extends Predicate<Person>> Optional<T> getTerm(Class<T> type) {
+        requireNonNull(type);
+        return terms.stream().filter(type::isInstance).map(type::cast).findFirst();
+    }
+
+    @Override
+    public boolean test(Person person) {
+        if (isContradiction) {
+            return false;
+        }
+        for (int i = 0; i < terms.size(); i++) {
+            if (!terms.get(i).test(person)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a filter with {@code terms} and {@code newTerm}, cheapest first.
+     */
+    private static PersonFilter withTerms(List<Predicate<Person>> terms, Predicate<Person> newTerm) {
+        List<Predicate<Person>> newTerms = new ArrayList<>(terms);
+        newTerms.add(newTerm);
+        newTerms.sort(CHEAPEST_FIRST);
+        return new PersonFilter(Collections.unmodifiableList(newTerms), false);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonFilter)) {
+            return false;
+        }
+
+        PersonFilter otherPersonFilter = (PersonFilter) other;
+        return isContradiction == otherPersonFilter.isContradiction && terms.equals(otherPersonFilter.terms);
+    }
+
+    @Override
+    public int hashCode() {
+        return terms.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("terms", terms)
+                .add("isContradiction", isContradiction)
+                .toString();
+    }
+}
@@ -1,5 +1,8 @@
 package hirehive.address.model;
 
+import java.util.List;
+import java.util.Optional;
+
 import hirehive.address.model.person.Person;
 import javafx.collections.ObservableList;
 
@@ -14,4 +17,19 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<Person> getPersonList();
 
+    /**
+     * Returns a number that changes every time the data of the address book changes.
+     * Equal versions of the same address book mean its data has not changed in between.
+     */
+    long getVersion();
+
+    /**
+     * Returns the changes that took this address book from {@code version} to its current version, oldest first.
+     * Returns an empty Optional if those changes are not known, such as when the data was replaced wholesale since,
+     * in which case the whole address book has to be read instead.
+     */
+    default Optional<List<PersonChange>> getChangesSince(long version) {
+        return Optional.empty();
+    }
+
 }
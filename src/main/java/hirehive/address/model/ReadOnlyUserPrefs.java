@@ -3,6 +3,7 @@ package hirehive.address.model;
 import java.nio.file.Path;
 
 import hirehive.address.commons.core.GuiSettings;
+import hirehive.address.commons.core.StorageMode;
 
 /**
  * Unmodifiable view of user prefs.
@@ -13,4 +14,6 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    StorageMode getStorageMode();
+
 }
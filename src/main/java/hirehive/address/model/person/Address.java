@@ -2,6 +2,8 @@ package hirehive.address.model.person;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.regex.Pattern;
+
 import hirehive.address.commons.util.AppUtil;
 
 /**
@@ -17,6 +19,7 @@ public class Address {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String VALIDATION_REGEX = "[^\\s].*";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String value;
 
@@ -35,7 +38,7 @@ public class Address {
      * Returns true if a given string is a valid email.
      */
     public static boolean isValidAddress(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
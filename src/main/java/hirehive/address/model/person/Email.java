@@ -3,6 +3,7 @@ package hirehive.address.model.person;
 import static java.util.Objects.requireNonNull;
 
 import hirehive.address.commons.util.AppUtil;
+import hirehive.address.commons.util.StringUtil;
 
 
 /**
@@ -50,7 +51,66 @@ public class Email {
      * Returns if a given string is a valid email.
      */
     public static boolean isValidEmail(String test) {
-        return test.matches(VALIDATION_REGEX);
+        // Scans test directly, which gives the same result as matching VALIDATION_REGEX without its cost.
+        int atIndex = test.indexOf('@');
+        return atIndex >= 0 && isValidLocalPart(test, 0, atIndex) && isValidDomain(test, atIndex + 1);
+    }
+
+    /**
+     * Returns true if {@code test} from {@code start} to {@code end} is a valid local-part: runs of alphanumeric
+     * characters separated by single special characters.
+     */
+    private static boolean isValidLocalPart(String test, int start, int end) {
+        boolean isAfterAlphanumeric = false;
+        for (int i = start; i < end; i++) {
+            char c = test.charAt(i);
+            if (StringUtil.isAsciiAlphanumeric(c)) {
+                isAfterAlphanumeric = true;
+            } else if (isAfterAlphanumeric && SPECIAL_CHARACTERS.indexOf(c) >= 0) {
+                isAfterAlphanumeric = false;
+            } else {
+                return false;
+            }
+        }
+        return isAfterAlphanumeric;
+    }
+
+    /**
+     * Returns true if {@code test} from {@code start} to its end is a valid domain name.
+     */
+    private static boolean isValidDomain(String test, int start) {
+        int labelStart = start;
+        for (int i = start; i < test.length(); i++) {
+            if (test.charAt(i) == '.') {
+                if (!isValidDomainLabel(test, labelStart, i, false)) {
+                    return false;
+                }
+                labelStart = i + 1;
+            }
+        }
+        return isValidDomainLabel(test, labelStart, test.length(), true);
+    }
+
+    /**
+     * Returns true if {@code test} from {@code start} to {@code end} is a valid domain label: runs of alphanumeric
+     * characters separated by single hyphens. As {@link #DOMAIN_LAST_PART_REGEX} repeats a label at least twice,
+     * the last label must also have two alphanumeric characters in a row.
+     */
+    private static boolean isValidDomainLabel(String test, int start, int end, boolean isLastLabel) {
+        boolean isAfterAlphanumeric = false;
+        boolean hasAdjacentAlphanumerics = false;
+        for (int i = start; i < end; i++) {
+            char c = test.charAt(i);
+            if (StringUtil.isAsciiAlphanumeric(c)) {
+                hasAdjacentAlphanumerics |= isAfterAlphanumeric;
+                isAfterAlphanumeric = true;
+            } else if (isAfterAlphanumeric && c == '-') {
+                isAfterAlphanumeric = false;
+            } else {
+                return false;
+            }
+        }
+        return isAfterAlphanumeric && (hasAdjacentAlphanumerics || !isLastLabel);
     }
 
     @Override
@@ -8,8 +8,6 @@ import java.time.format.DateTimeParseException;
 import java.time.format.ResolverStyle;
 import java.util.Optional;
 
-import hirehive.address.commons.util.AppUtil;
-
 /**
  * Represents a Person's interview date in the address book
  * Can be empty. Represented in the string format of DD/MM/YYYY
@@ -25,7 +23,7 @@ public class InterviewDate {
     public final Optional<LocalDate> value;
 
     public InterviewDate() {
-        value = Optional.empty();
+        this(Optional.empty());
     }
 
     /**
@@ -33,12 +31,34 @@ public class InterviewDate {
      * @param date Date value
      */
     public InterviewDate(String date) {
+        this(parse(date));
+    }
+
+    private InterviewDate(Optional<LocalDate> value) {
+        this.value = value;
+    }
+
+    /**
+     * Returns an {@link InterviewDate} on {@code date}, which needs no parsing or validation.
+     */
+    public static InterviewDate of(LocalDate date) {
         requireNonNull(date);
-        AppUtil.checkArgument(isValidDate(date), MESSAGE_CONSTRAINTS);
-        if (!date.isEmpty()) {
-            value = Optional.of(LocalDate.parse(date, DATE_TIME_FORMATTER));
-        } else {
-            value = Optional.empty();
+        return new InterviewDate(Optional.of(date));
+    }
+
+    /**
+     * Parses {@code date} once, both to validate it and to find its value, unlike checking it with
+     * {@link #isValidDate(String)} before parsing it.
+     */
+    private static Optional<LocalDate> parse(String date) {
+        requireNonNull(date);
+        if (date.isEmpty()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(LocalDate.parse(date, DATE_TIME_FORMATTER));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException(MESSAGE_CONSTRAINTS);
         }
     }
 
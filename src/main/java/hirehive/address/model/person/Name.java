@@ -2,10 +2,14 @@ package hirehive.address.model.person;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Locale;
+
 import hirehive.address.commons.util.AppUtil;
+import hirehive.address.commons.util.StringUtil;
 
 /**
  * Represents a Person's name in the address book.
+ * Two names are equal if they are the same after ignoring case; {@link #getIdentityKey()} also ignores spacing.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
  */
 public class Name {
@@ -20,9 +24,17 @@ public class Name {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String VALIDATION_REGEX = "[A-Za-z][A-Za-z ,()/.@'-]*";
+    /** The symbols allowed after the first letter by {@link #VALIDATION_REGEX}. */
+    private static final String SYMBOLS = " ,()/.@'-";
 
     public final String fullName;
 
+    /** Canonical form of {@code fullName}, computed once so that identity checks do not allocate. */
+    private final String identityKey;
+
+    /** {@code fullName} in lower case, computed once so that hashing does not allocate. */
+    private final String caseFoldedName;
+
     /**
      * Constructs a {@code Name}.
      *
@@ -32,16 +44,57 @@ public class Name {
         requireNonNull(name);
         AppUtil.checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
         fullName = name;
+        identityKey = toIdentityKey(name);
+        caseFoldedName = name.toLowerCase(Locale.ROOT);
     }
 
     /**
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        // Scans test directly, which gives the same result as matching VALIDATION_REGEX without its cost.
+        if (test.isEmpty() || !StringUtil.isAsciiLetter(test.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (!StringUtil.isAsciiLetter(c) && SYMBOLS.indexOf(c) < 0) {
+                return false;
+            }
+        }
+        return true;
     }
 
 
+    /**
+     * Returns the canonical form of this name: trimmed, with each run of whitespace replaced by a single space,
+     * and in lower case. Persons with the same identity key are the same person, even if their names are not equal.
+     */
+    public String getIdentityKey() {
+        return identityKey;
+    }
+
+    /**
+     * Returns {@code name} trimmed, with each run of whitespace replaced by a single space, and in lower case.
+     */
+    private static String toIdentityKey(String name) {
+        StringBuilder key = new StringBuilder(name.length());
+        boolean isPendingSpace = false;
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (Character.isWhitespace(c)) {
+                isPendingSpace = key.length() > 0;
+                continue;
+            }
+            if (isPendingSpace) {
+                key.append(' ');
+                isPendingSpace = false;
+            }
+            key.append(c);
+        }
+        return key.toString().toLowerCase(Locale.ROOT);
+    }
+
     @Override
     public String toString() {
         return fullName;
@@ -64,7 +117,7 @@ public class Name {
 
     @Override
     public int hashCode() {
-        return fullName.hashCode();
+        return caseFoldedName.hashCode();
     }
 
 }
@@ -14,11 +14,28 @@ public class NameContainsKeywordsPredicate implements PersonPredicate {
         this.keyword = keyword;
     }
 
+    public String getKeyword() {
+        return keyword;
+    }
+
     @Override
     public boolean test(Person person) {
         return StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword);
     }
 
+    @Override
+    public boolean implies(PersonPredicate other) {
+        // a name containing this keyword also contains every substring of it
+        return other instanceof NameContainsKeywordsPredicate
+                && keyword.trim().toLowerCase().contains(
+                        ((NameContainsKeywordsPredicate) other).keyword.trim().toLowerCase());
+    }
+
+    @Override
+    public int getCost() {
+        return COST_TEXT_SEARCH;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
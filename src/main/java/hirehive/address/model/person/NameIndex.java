@@ -0,0 +1,113 @@
+package hirehive.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An inverted index from the trigrams of case-folded names to the identity keys of the persons with those names.
+ * A name can only contain a keyword if it contains every trigram of the keyword, so intersecting the keyword's
+ * postings gives a small set of candidates that still have to be checked against the keyword.
+ *
+ * @see NameContainsKeywordsPredicate
+ */
+public class NameIndex {
+    public static final int GRAM_LENGTH = 3;
+
+    private final Map<String, Set<String>> postings = new HashMap<>();
+
+    /**
+     * Returns true if {@code keyword} is long enough to be looked up in the index.
+     * Shorter keywords have no trigrams to narrow the candidates down with.
+     */
+    public static boolean canNarrow(String keyword) {
+        requireNonNull(keyword);
+        return fold(keyword).length() >= GRAM_LENGTH;
+    }
+
+    /**
+     * Indexes the name of {@code person}.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        String identityKey = person.getIdentityKey();
+        for (String gram : getGrams(fold(person.getName().fullName))) {
+            postings.computeIfAbsent(gram, unused -> new HashSet<>()).add(identityKey);
+        }
+    }
+
+    /**
+     * Removes the name of {@code person} from the index.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        String identityKey = person.getIdentityKey();
+        for (String gram : getGrams(fold(person.getName().fullName))) {
+            Set<String> posting = postings.get(gram);
+            if (posting != null && posting.remove(identityKey) && posting.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    /**
+     * Removes every name from the index.
+     */
+    public void clear() {
+        postings.clear();
+    }
+
+    /**
+     * Returns the identity keys of the persons whose names may contain {@code keyword}, ignoring case.
+     * {@code keyword} must be long enough to narrow the candidates down, as checked by {@link #canNarrow(String)}.
+     */
+    public Set<String> getCandidates(String keyword) {
+        requireNonNull(keyword);
+        String foldedKeyword = fold(keyword);
+        if (foldedKeyword.length() < GRAM_LENGTH) {
+            throw new IllegalArgumentException("Keyword is too short to look up: " + keyword);
+        }
+
+        List<Set<String>> keywordPostings = new ArrayList<>();
+        for (String gram : getGrams(foldedKeyword)) {
+            Set<String> posting = postings.get(gram);
+            if (posting == null) {
+                return Collections.emptySet();
+            }
+            keywordPostings.add(posting);
+        }
+        // intersect from the rarest trigram so that the working set is as small as possible from the start
+        keywordPostings.sort(Comparator.comparingInt(Set::size));
+
+        Set<String> candidates = new HashSet<>(keywordPostings.get(0));
+        for (int i = 1; i < keywordPostings.size() && !candidates.isEmpty(); i++) {
+            candidates.retainAll(keywordPostings.get(i));
+        }
+        return candidates;
+    }
+
+    /**
+     * Folds {@code text} the same way {@code StringUtil#containsWordIgnoreCase} does before matching.
+     */
+    private static String fold(String text) {
+        return text.trim().toLowerCase();
+    }
+
+    /**
+     * Returns the distinct trigrams of {@code foldedText}.
+     */
+    private static Set<String> getGrams(String foldedText) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= foldedText.length(); i++) {
+            grams.add(foldedText.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+}
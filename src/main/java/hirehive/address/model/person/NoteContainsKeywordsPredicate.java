@@ -0,0 +1,73 @@
+package hirehive.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import hirehive.address.commons.util.ToStringBuilder;
+import hirehive.address.logic.Messages;
+
+/**
+ * Tests that a {@code Person}'s {@code Note} contains any of the keywords given as a whole word.
+ * Keywords are split and case-folded the same way notes are, as described in {@link NoteIndex#tokenize(String)}.
+ */
+public class NoteContainsKeywordsPredicate implements PersonPredicate {
+    private final List<String> keywords;
+
+    /**
+     * Creates a predicate matching notes that contain any of the words in {@code keywords}.
+     */
+    public NoteContainsKeywordsPredicate(String keywords) {
+        requireNonNull(keywords);
+        this.keywords = NoteIndex.tokenize(keywords);
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        Set<String> noteWords = new HashSet<>(NoteIndex.tokenize(person.getNote().value));
+        return keywords.stream().anyMatch(noteWords::contains);
+    }
+
+    @Override
+    public boolean implies(PersonPredicate other) {
+        // a note containing any of these keywords contains one of any larger set of keywords
+        return other instanceof NoteContainsKeywordsPredicate
+                && ((NoteContainsKeywordsPredicate) other).keywords.containsAll(keywords);
+    }
+
+    @Override
+    public int getCost() {
+        return COST_TEXT_TOKENIZATION;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof NoteContainsKeywordsPredicate)) {
+            return false;
+        }
+
+        NoteContainsKeywordsPredicate otherNoteContainsKeywordsPredicate = (NoteContainsKeywordsPredicate) other;
+        return keywords.equals(otherNoteContainsKeywordsPredicate.keywords);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("keywords", keywords).toString();
+    }
+
+    @Override
+    public String getSuccessString() {
+        return String.format(Messages.MESSAGE_FILTER_OVERVIEW_NOTE, String.join(" ", keywords));
+    }
+}
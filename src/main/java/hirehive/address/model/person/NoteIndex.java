@@ -0,0 +1,142 @@
+package hirehive.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * An inverted index from the words in notes to the identity keys of the persons whose notes contain them.
+ * Notes are split into words at every character that is not a letter or digit, and words are case-folded.
+ *
+ * @see NoteContainsKeywordsPredicate
+ */
+public class NoteIndex {
+
+    /** Maps each word to the identity keys of the persons whose notes contain it, and how often it occurs. */
+    private final Map<String, Map<String, Integer>> postings = new HashMap<>();
+
+    /**
+     * Returns the case-folded words of {@code text}, in order and with repeats.
+     */
+    public static List<String> tokenize(String text) {
+        requireNonNull(text);
+        List<String> words = new ArrayList<>();
+        int wordStart = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean isWordChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (isWordChar && wordStart < 0) {
+                wordStart = i;
+            } else if (!isWordChar && wordStart >= 0) {
+                words.add(text.substring(wordStart, i).toLowerCase(Locale.ROOT));
+                wordStart = -1;
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Indexes the note of {@code person}.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        String identityKey = person.getIdentityKey();
+        for (String word : tokenize(person.getNote().value)) {
+            postings.computeIfAbsent(word, unused -> new HashMap<>()).merge(identityKey, 1, Integer::sum);
+        }
+    }
+
+    /**
+     * Removes the note of {@code person} from the index.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        String identityKey = person.getIdentityKey();
+        for (String word : tokenize(person.getNote().value)) {
+            Map<String, Integer> posting = postings.get(word);
+            if (posting != null && posting.remove(identityKey) != null && posting.isEmpty()) {
+                postings.remove(word);
+            }
+        }
+    }
+
+    /**
+     * Removes every note from the index.
+     */
+    public void clear() {
+        postings.clear();
+    }
+
+    /**
+     * Returns how relevant the note of each person containing any of {@code keywords} is, keyed by identity key.
+     * Each keyword must already be a single case-folded word, as returned by {@link #tokenize(String)}.
+     */
+    public Map<String, Relevance> getMatches(Collection<String> keywords) {
+        requireNonNull(keywords);
+        Map<String, Relevance> matches = new HashMap<>();
+        for (String keyword : keywords.stream().distinct().toList()) {
+            Map<String, Integer> posting = postings.getOrDefault(keyword, Map.of());
+            posting.forEach((identityKey, occurrences) ->
+                    matches.merge(identityKey, new Relevance(1, occurrences), Relevance::plus));
+        }
+        return matches;
+    }
+
+    /**
+     * How well a note matches a set of keywords.
+     * A note matching more of the keywords is more relevant, and ties go to the note mentioning them more often.
+     */
+    public static class Relevance implements Comparable<Relevance> {
+        private final int matchedKeywords;
+        private final int occurrences;
+
+        Relevance(int matchedKeywords, int occurrences) {
+            this.matchedKeywords = matchedKeywords;
+            this.occurrences = occurrences;
+        }
+
+        private Relevance plus(Relevance other) {
+            return new Relevance(matchedKeywords + other.matchedKeywords, occurrences + other.occurrences);
+        }
+
+        /**
+         * Orders more relevant matches first.
+         */
+        @Override
+        public int compareTo(Relevance other) {
+            if (matchedKeywords != other.matchedKeywords) {
+                return Integer.compare(other.matchedKeywords, matchedKeywords);
+            }
+            return Integer.compare(other.occurrences, occurrences);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof Relevance)) {
+                return false;
+            }
+
+            Relevance otherRelevance = (Relevance) other;
+            return matchedKeywords == otherRelevance.matchedKeywords && occurrences == otherRelevance.occurrences;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * matchedKeywords + occurrences;
+        }
+
+        @Override
+        public String toString() {
+            return matchedKeywords + " keywords, " + occurrences + " occurrences";
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package hirehive.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Tracks the dates on which at least one interview is scheduled.
+ * Consecutive occupied dates are kept as runs, so the next free date from any day is found with a single lookup.
+ * A date stays occupied until every interview added on it has been removed.
+ */
+public class OccupiedDates {
+
+    private final Map<LocalDate, Integer> interviewCounts = new HashMap<>();
+    /** Maps the first date of each run of consecutive occupied dates to the last date of that run. */
+    private final TreeMap<LocalDate, LocalDate> runs = new TreeMap<>();
+
+    /**
+     * Records an interview on {@code date}.
+     */
+    public void add(LocalDate date) {
+        requireNonNull(date);
+        if (interviewCounts.merge(date, 1, Integer::sum) > 1) {
+            return;
+        }
+
+        LocalDate start = date;
+        LocalDate end = date;
+        Map.Entry<LocalDate, LocalDate> before = runs.lowerEntry(date);
+        if (before != null && before.getValue().plusDays(1).equals(date)) {
+            start = before.getKey();
+        }
+        LocalDate after = runs.remove(date.plusDays(1));
+        if (after != null) {
+            end = after;
+        }
+        runs.put(start, end);
+    }
+
+    /**
+     * Removes an interview on {@code date}.
+     * An interview must have been added on {@code date}.
+     */
+    public void remove(LocalDate date) {
+        requireNonNull(date);
+        Integer count = interviewCounts.get(date);
+        if (count == null) {
+            throw new IllegalArgumentException("No interview is scheduled on " + date);
+        }
+        if (count > 1) {
+            interviewCounts.put(date, count - 1);
+            return;
+        }
+        interviewCounts.remove(date);
+
+        Map.Entry<LocalDate, LocalDate> run = runs.floorEntry(date);
+        LocalDate start = run.getKey();
+        LocalDate end = run.getValue();
+        runs.remove(start);
+        if (start.isBefore(date)) {
+            runs.put(start, date.minusDays(1));
+        }
+        if (end.isAfter(date)) {
+            runs.put(date.plusDays(1), end);
+        }
+    }
+
+    /**
+     * Removes every recorded interview.
+     */
+    public void clear() {
+        interviewCounts.clear();
+        runs.clear();
+    }
+
+    /**
+     * Returns true if an interview is scheduled on {@code date}.
+     */
+    public boolean contains(LocalDate date) {
+        requireNonNull(date);
+        return interviewCounts.containsKey(date);
+    }
+
+    /**
+     * Returns the earliest date on or after {@code from} with no interview scheduled.
+     */
+    public LocalDate nextFreeDate(LocalDate from) {
+        requireNonNull(from);
+        Map.Entry<LocalDate, LocalDate> run = runs.floorEntry(from);
+        if (run == null || run.getValue().isBefore(from)) {
+            return from;
+        }
+        return run.getValue().plusDays(1);
+    }
+}
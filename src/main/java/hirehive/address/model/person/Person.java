@@ -109,18 +109,17 @@ public class Person {
         }
 
         return otherPerson != null
-                && normalizeName(otherPerson.getName()).equalsIgnoreCase(normalizeName(getName()));
+                && getIdentityKey().equals(otherPerson.getIdentityKey());
     }
 
     /**
-     * Normalizes a name by trimming leading/trailing spaces and
-     * replacing multiple consecutive whitespace characters with a single space.
+     * Returns the key that identifies this person, as used by {@link #isSamePerson(Person)}.
+     * Two persons are the same person if and only if their identity keys are equal.
      *
-     * @param name The name to normalize.
-     * @return The normalized name.
+     * @see Name#getIdentityKey()
      */
-    private String normalizeName(Name name) {
-        return name.toString().trim().replaceAll("\\s+", " ");
+    public String getIdentityKey() {
+        return name.getIdentityKey();
     }
 
     /**
@@ -1,7 +1,5 @@
 package hirehive.address.model.person;
 
-import java.util.function.Predicate;
-
 import hirehive.address.commons.util.ToStringBuilder;
 import hirehive.address.logic.Messages;
 import hirehive.address.model.tag.Tag;
@@ -15,11 +13,31 @@ public class PersonContainsTagPredicate implements PersonPredicate {
         this.tag = tag;
     }
 
+    public Tag getTag() {
+        return tag;
+    }
+
     @Override
     public boolean test(Person person) {
         return person.getTag().equals(tag);
     }
 
+    @Override
+    public boolean implies(PersonPredicate other) {
+        // a person has exactly one tag, so having this tag rules out every other tag
+        return equals(other) || (other instanceof PersonDoesNotContainTagPredicate
+                && ((PersonDoesNotContainTagPredicate) other).getTag() != tag);
+    }
+
+    @Override
+    public boolean contradicts(PersonPredicate other) {
+        if (other instanceof PersonContainsTagPredicate) {
+            return ((PersonContainsTagPredicate) other).tag != tag;
+        }
+        return other instanceof PersonDoesNotContainTagPredicate
+                && ((PersonDoesNotContainTagPredicate) other).getTag() == tag;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
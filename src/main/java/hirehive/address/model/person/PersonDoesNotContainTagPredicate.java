@@ -14,11 +14,20 @@ public class PersonDoesNotContainTagPredicate implements PersonPredicate {
         this.tag = tag;
     }
 
+    public Tag getTag() {
+        return tag;
+    }
+
     @Override
     public boolean test(Person person) {
         return !person.getTag().equals(tag);
     }
 
+    @Override
+    public boolean contradicts(PersonPredicate other) {
+        return other instanceof PersonContainsTagPredicate && ((PersonContainsTagPredicate) other).getTag() == tag;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -6,5 +6,33 @@ import java.util.function.Predicate;
  * Interface used for predicates that operate on the Person class
  */
 public interface PersonPredicate extends Predicate<Person> {
+    /** Cost of a predicate that compares a single field, such as a tag or a date. */
+    int COST_FIELD_COMPARISON = 1;
+    /** Cost of a predicate that searches for a substring in a short text field. */
+    int COST_TEXT_SEARCH = 2;
+    /** Cost of a predicate that splits a long text field into words. */
+    int COST_TEXT_TOKENIZATION = 3;
+
     public String getSuccessString();
+
+    /**
+     * Returns true if every person passing this predicate also passes {@code other}.
+     */
+    default boolean implies(PersonPredicate other) {
+        return equals(other);
+    }
+
+    /**
+     * Returns true if no person can pass both this predicate and {@code other}.
+     */
+    default boolean contradicts(PersonPredicate other) {
+        return false;
+    }
+
+    /**
+     * Returns the rough cost of testing one person, so that cheaper predicates can be tested first.
+     */
+    default int getCost() {
+        return COST_FIELD_COMPARISON;
+    }
 }
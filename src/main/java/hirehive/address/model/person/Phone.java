@@ -3,6 +3,7 @@ package hirehive.address.model.person;
 import static java.util.Objects.requireNonNull;
 
 import hirehive.address.commons.util.AppUtil;
+import hirehive.address.commons.util.StringUtil;
 
 /**
  * Represents a Person's phone number in the address book.
@@ -31,7 +32,16 @@ public class Phone {
      * Returns true if a given string is a valid phone number.
      */
     public static boolean isValidPhone(String test) {
-        return test.matches(VALIDATION_REGEX);
+        // Scans test directly, which gives the same result as matching VALIDATION_REGEX without its cost.
+        if (test.length() != 8 || "896".indexOf(test.charAt(0)) < 0) {
+            return false;
+        }
+        for (int i = 1; i < test.length(); i++) {
+            if (!StringUtil.isAsciiDigit(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
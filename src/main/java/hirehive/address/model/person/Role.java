@@ -2,6 +2,8 @@ package hirehive.address.model.person;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.regex.Pattern;
+
 import hirehive.address.commons.util.AppUtil;
 
 /**
@@ -17,6 +19,7 @@ public class Role {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
     public final String fullRole;
 
     /**
@@ -37,7 +40,7 @@ public class Role {
      *  @return true if the string matches the role name format; false otherwise.
      */
     public static boolean isValidRole(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
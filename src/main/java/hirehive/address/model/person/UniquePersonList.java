@@ -2,8 +2,14 @@ package hirehive.address.model.person;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import hirehive.address.commons.util.CollectionUtil;
 import hirehive.address.model.person.exceptions.DuplicatePersonException;
@@ -18,6 +24,10 @@ import javafx.collections.ObservableList;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Persons are also indexed by {@code Person#getIdentityKey()} so that identity checks do not need to scan the list.
+ * Each indexed person carries an ordinal that increases along the list, so that any subset of persons can be put in
+ * list order without scanning the list.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
@@ -28,12 +38,16 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    /** Persons in {@code internalList}, keyed by their identity key. Kept in sync with {@code internalList}. */
+    private final Map<String, IndexEntry> identityIndex = new HashMap<>();
+    private long nextOrdinal = 0;
+
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return identityIndex.containsKey(toCheck.getIdentityKey());
     }
 
     /**
@@ -46,6 +60,7 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
         internalList.add(toAdd);
+        identityIndex.put(toAdd.getIdentityKey(), new IndexEntry(toAdd, nextOrdinal++));
     }
 
     /**
@@ -66,6 +81,8 @@ public class UniquePersonList implements Iterable<Person> {
         }
 
         internalList.set(index, editedPerson);
+        IndexEntry targetEntry = identityIndex.remove(target.getIdentityKey());
+        identityIndex.put(editedPerson.getIdentityKey(), new IndexEntry(editedPerson, targetEntry.ordinal));
     }
 
     /**
@@ -77,24 +94,76 @@ public class UniquePersonList implements Iterable<Person> {
         if (!internalList.remove(toRemove)) {
             throw new PersonNotFoundException();
         }
+        identityIndex.remove(toRemove.getIdentityKey());
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        if (replacement == this) {
+            return;
+        }
         internalList.setAll(replacement.internalList);
+        identityIndex.clear();
+        identityIndex.putAll(replacement.identityIndex);
+        nextOrdinal = replacement.nextOrdinal;
     }
 
     /**
      * Replaces the contents of this list with {@code persons}.
      * {@code persons} must not contain duplicate persons.
+     *
+     * @throws DuplicatePersonException listing every group of duplicate persons, if there are any.
      */
     public void setPersons(List<Person> persons) {
         CollectionUtil.requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
+        Map<String, IndexEntry> replacementIndex = new HashMap<>();
+        long ordinal = 0;
+        for (Person person : persons) {
+            if (replacementIndex.putIfAbsent(person.getIdentityKey(), new IndexEntry(person, ordinal++)) != null) {
+                throw new DuplicatePersonException(findDuplicateGroups(persons));
+            }
         }
 
         internalList.setAll(persons);
+        identityIndex.clear();
+        identityIndex.putAll(replacementIndex);
+        nextOrdinal = ordinal;
+    }
+
+    /**
+     * Returns the persons with the given identity keys, in the order of the list.
+     * Keys of persons not in the list are ignored.
+     */
+    public List<Person> getPersonsInListOrder(Collection<String> identityKeys) {
+        requireNonNull(identityKeys);
+        List<IndexEntry> entries = new ArrayList<>(identityKeys.size());
+        for (String identityKey : identityKeys) {
+            IndexEntry entry = identityIndex.get(identityKey);
+            if (entry != null) {
+                entries.add(entry);
+            }
+        }
+        entries.sort(Comparator.comparingLong(entry -> entry.ordinal));
+
+        List<Person> orderedPersons = new ArrayList<>(entries.size());
+        for (IndexEntry entry : entries) {
+            orderedPersons.add(entry.person);
+        }
+        return orderedPersons;
+    }
+
+    /**
+     * Returns the ordinal of {@code person}, which is smaller than that of every person after it in the list.
+     *
+     * @throws PersonNotFoundException if {@code person} is not in the list.
+     */
+    public long getOrdinal(Person person) {
+        requireNonNull(person);
+        IndexEntry entry = identityIndex.get(person.getIdentityKey());
+        if (entry == null || !entry.person.equals(person)) {
+            throw new PersonNotFoundException();
+        }
+        return entry.ordinal;
     }
 
     /**
@@ -135,16 +204,33 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * A person in the list together with its ordinal, which is smaller than that of every person after it.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private static class IndexEntry {
+        private final Person person;
+        private final long ordinal;
+
+        IndexEntry(Person person, long ordinal) {
+            this.person = person;
+            this.ordinal = ordinal;
+        }
+    }
+
+    /**
+     * Returns every group of persons in {@code persons} that share the same identity, in order of first appearance.
+     */
+    private static List<List<Person>> findDuplicateGroups(List<Person> persons) {
+        Map<String, List<Person>> personsByIdentity = new LinkedHashMap<>();
+        for (Person person : persons) {
+            personsByIdentity.computeIfAbsent(person.getIdentityKey(), unused -> new ArrayList<>()).add(person);
+        }
+
+        List<List<Person>> duplicateGroups = new ArrayList<>();
+        for (List<Person> group : personsByIdentity.values()) {
+            if (group.size() > 1) {
+                duplicateGroups.add(group);
             }
         }
-        return true;
+        return duplicateGroups;
     }
 }
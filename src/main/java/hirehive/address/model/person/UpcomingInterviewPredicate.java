@@ -2,7 +2,6 @@ package hirehive.address.model.person;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
-import java.time.temporal.ChronoUnit;
 
 import hirehive.address.logic.Messages;
 
@@ -13,6 +12,7 @@ public class UpcomingInterviewPredicate implements PersonPredicate {
     public static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy");
     private final int days;
     private final LocalDate currDay;
+    private final LocalDate lastDay;
 
     /**
      * Default constructor for {@code UpcomingInterviewPredicate}
@@ -21,6 +21,7 @@ public class UpcomingInterviewPredicate implements PersonPredicate {
     public UpcomingInterviewPredicate(int days) {
         currDay = LocalDate.now();
         this.days = days;
+        lastDay = currDay.plusDays(days);
     }
 
     /**
@@ -31,15 +32,48 @@ public class UpcomingInterviewPredicate implements PersonPredicate {
     public UpcomingInterviewPredicate(int days, String currDay) {
         this.currDay = LocalDate.parse(currDay, DATE_TIME_FORMATTER);
         this.days = days;
+        lastDay = this.currDay.plusDays(days);
+    }
+
+    /**
+     * Returns the first day of the queried range.
+     */
+    public LocalDate getStartDate() {
+        return currDay;
+    }
+
+    /**
+     * Returns the last day of the queried range, inclusive.
+     */
+    public LocalDate getEndDate() {
+        return lastDay;
     }
 
     @Override
     public boolean test(Person person) {
-        return person.getDate().value.map(date -> ChronoUnit.DAYS.between(currDay, date))
-                .map(days -> days <= this.days && days >= 0)
+        return person.getDate().value
+                .map(date -> !date.isBefore(currDay) && !date.isAfter(lastDay))
                 .orElse(false);
     }
 
+    @Override
+    public boolean implies(PersonPredicate other) {
+        if (!(other instanceof UpcomingInterviewPredicate)) {
+            return false;
+        }
+        UpcomingInterviewPredicate otherRange = (UpcomingInterviewPredicate) other;
+        return !currDay.isBefore(otherRange.currDay) && !lastDay.isAfter(otherRange.lastDay);
+    }
+
+    @Override
+    public boolean contradicts(PersonPredicate other) {
+        if (!(other instanceof UpcomingInterviewPredicate)) {
+            return false;
+        }
+        UpcomingInterviewPredicate otherRange = (UpcomingInterviewPredicate) other;
+        return lastDay.isBefore(otherRange.currDay) || otherRange.lastDay.isBefore(currDay);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
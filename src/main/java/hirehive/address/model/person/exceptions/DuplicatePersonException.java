@@ -1,11 +1,48 @@
 package hirehive.address.model.person.exceptions;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import hirehive.address.model.person.Person;
+
 /**
  * Signals that the operation will result in duplicate Persons (Persons are considered duplicates if they have the same
  * identity).
  */
 public class DuplicatePersonException extends RuntimeException {
+
+    private final List<List<Person>> duplicateGroups;
+
     public DuplicatePersonException() {
         super("Operation would result in duplicate persons");
+        duplicateGroups = Collections.emptyList();
+    }
+
+    /**
+     * @param duplicateGroups every group of persons that share the same identity, in order of first appearance.
+     */
+    public DuplicatePersonException(List<List<Person>> duplicateGroups) {
+        super("Operation would result in duplicate persons: " + describe(duplicateGroups));
+        this.duplicateGroups = Collections.unmodifiableList(duplicateGroups);
+    }
+
+    /**
+     * Returns every group of persons that share the same identity.
+     * Returns an empty list if the groups are not known.
+     */
+    public List<List<Person>> getDuplicateGroups() {
+        return duplicateGroups;
+    }
+
+    /**
+     * Returns the names in each of the {@code duplicateGroups}, one bracketed group after another.
+     */
+    public static String describe(List<List<Person>> duplicateGroups) {
+        return duplicateGroups.stream()
+                .map(group -> group.stream()
+                        .map(person -> person.getName().fullName)
+                        .collect(Collectors.joining(", ", "[", "]")))
+                .collect(Collectors.joining(", "));
     }
 }
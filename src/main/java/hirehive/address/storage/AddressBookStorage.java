@@ -1,7 +1,9 @@
 package hirehive.address.storage;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.Optional;
 
 import hirehive.address.commons.exceptions.DataLoadingException;
@@ -43,4 +45,34 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Replaces the data in this storage with the address book in {@code source}.
+     *
+     * @return false if {@code source} has no address book to copy.
+     * @throws DataLoadingException if the address book in {@code source} cannot be read.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    default boolean copyFrom(AddressBookStorage source) throws DataLoadingException, IOException {
+        Optional<ReadOnlyAddressBook> addressBook = source.readAddressBook();
+        if (addressBook.isEmpty()) {
+            return false;
+        }
+        saveAddressBook(addressBook.get());
+        return true;
+    }
+
+    /**
+     * Renames the files holding the data in this storage by adding {@code suffix} to their names, so that the data
+     * is no longer read from them but can still be recovered by hand. Does nothing if there is no data.
+     *
+     * @throws IOException if there was any problem renaming the files.
+     */
+    default void moveAddressBookAside(String suffix) throws IOException {
+        Path filePath = getAddressBookFilePath();
+        if (Files.exists(filePath)) {
+            Files.move(filePath, filePath.resolveSibling(filePath.getFileName() + suffix),
+                    StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
 }
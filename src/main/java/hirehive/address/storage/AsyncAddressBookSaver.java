@@ -0,0 +1,112 @@
+package hirehive.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import hirehive.address.commons.core.LogsCenter;
+import hirehive.address.commons.util.StringUtil;
+import hirehive.address.model.AddressBookSnapshot;
+import hirehive.address.model.ReadOnlyAddressBook;
+
+/**
+ * Writes address books to an {@code AddressBookStorage} on a background thread.
+ * Saves requested while a write is in progress are coalesced, so only the latest of them is written next.
+ */
+public class AsyncAddressBookSaver {
+    private static final Logger logger = LogsCenter.getLogger(AsyncAddressBookSaver.class);
+
+    private final AddressBookStorage storage;
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(task -> {
+        Thread thread = new Thread(task, "address-book-saver");
+        thread.setDaemon(true);
+        return thread;
+    });
+    /** The latest snapshot waiting to be written, or null if a write task is not already scheduled. */
+    private final AtomicReference<ReadOnlyAddressBook> pendingSnapshot = new AtomicReference<>();
+    private volatile Consumer<IOException> failureHandler = unused -> { };
+    /** The error of the last write, or null if it succeeded. */
+    private volatile IOException lastFailure;
+
+    public AsyncAddressBookSaver(AddressBookStorage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+    }
+
+    /**
+     * Sets the handler called on the writer thread with the error of each write that fails.
+     */
+    public void setFailureHandler(Consumer<IOException> failureHandler) {
+        requireNonNull(failureHandler);
+        this.failureHandler = failureHandler;
+    }
+
+    /**
+     * Saves a snapshot of {@code addressBook} in the background.
+     * The snapshot is taken before this method returns, so {@code addressBook} may be changed right after.
+     */
+    public void save(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        if (pendingSnapshot.getAndSet(new AddressBookSnapshot(addressBook)) == null) {
+            writer.execute(this::writePendingSnapshot);
+        }
+    }
+
+    /**
+     * Returns true if the last write failed, so the file on disk may be older than the last saved address book.
+     */
+    public boolean hasFailed() {
+        return lastFailure != null;
+    }
+
+    /**
+     * Blocks until every save requested so far has been written.
+     *
+     * @throws IOException if the last write failed.
+     */
+    public void flush() throws IOException {
+        try {
+            writer.submit(() -> { }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for the address book to be saved", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e); // the empty task cannot fail
+        }
+        IOException failure = lastFailure;
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Writes every save requested so far and stops the writer thread.
+     *
+     * @throws IOException if the last write failed.
+     */
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            writer.shutdown();
+        }
+    }
+
+    private void writePendingSnapshot() {
+        ReadOnlyAddressBook snapshot = pendingSnapshot.getAndSet(null);
+        try {
+            storage.saveAddressBook(snapshot);
+            lastFailure = null;
+        } catch (IOException e) {
+            logger.warning("Failed to save address book in the background: " + StringUtil.getDetails(e));
+            lastFailure = e;
+            failureHandler.accept(e);
+        }
+    }
+}
@@ -0,0 +1,315 @@
+package hirehive.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import hirehive.address.commons.core.Durability;
+import hirehive.address.commons.core.LogsCenter;
+import hirehive.address.commons.exceptions.DataLoadingException;
+import hirehive.address.commons.exceptions.IllegalValueException;
+import hirehive.address.commons.util.FileUtil;
+import hirehive.address.model.ReadOnlyAddressBook;
+import hirehive.address.model.person.Address;
+import hirehive.address.model.person.Email;
+import hirehive.address.model.person.InterviewDate;
+import hirehive.address.model.person.Name;
+import hirehive.address.model.person.Note;
+import hirehive.address.model.person.Person;
+import hirehive.address.model.person.Phone;
+import hirehive.address.model.person.Role;
+import hirehive.address.model.tag.Tag;
+
+/**
+ * A class to access AddressBook data stored in a compact binary file on the hard disk.
+ * <p>
+ * The file starts with {@link #MAGIC} and {@link #FORMAT_VERSION}, followed by the number of persons and each
+ * person in turn. Text is written as its length in bytes followed by its UTF-8 bytes. Addresses and roles, which
+ * repeat across persons, are written in full only the first time they appear and as their position in the table of
+ * text written so far after that. Tags are written as their ordinals and interview dates as epoch days. The file
+ * ends with a CRC32 checksum of everything before it, which is checked before any person is read.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    /** The first four bytes of every binary address book file, "HHAB" in ASCII. */
+    public static final int MAGIC = 0x48484142;
+    public static final int FORMAT_VERSION = 1;
+    public static final String FILE_EXTENSION = ".bin";
+
+    public static final String MESSAGE_NOT_BINARY_FILE = "%s is not a binary address book file.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION =
+            "%s is in binary format version %d, but only version %d can be read.";
+    public static final String MESSAGE_CHECKSUM_MISMATCH = "%s is corrupted: its checksum does not match its data.";
+    public static final String MESSAGE_INVALID_PERSON = "Person %d: %s";
+    public static final String MESSAGE_INVALID_TEXT_REFERENCE = "refers to text %d, but only %d are known";
+    public static final String MESSAGE_INVALID_TAG = "has unknown tag %d";
+    public static final String MESSAGE_INVALID_LENGTH = "has text of invalid length %d";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    /** Written in place of a text table position when the text follows in full. */
+    private static final int NEW_TEXT = -1;
+    /** Written in place of an epoch day for persons without an interview date. */
+    private static final int NO_DATE = Integer.MIN_VALUE;
+    private static final int CHECKSUM_BUFFER_SIZE = 8192;
+
+    private final Path filePath;
+    private final SyncPolicy syncPolicy;
+
+    /**
+     * Creates a storage for the file at {@code filePath} where every save waits for its data to reach the disk.
+     */
+    public BinaryAddressBookStorage(Path filePath) {
+        this(filePath, Durability.ALWAYS);
+    }
+
+    /**
+     * Creates a storage for the file at {@code filePath} that waits for saved data to reach the disk as often as
+     * {@code durability} requires.
+     */
+    public BinaryAddressBookStorage(Path filePath, Durability durability) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        syncPolicy = new SyncPolicy(durability);
+    }
+
+    /**
+     * Returns the path of the binary file kept in place of the json file at {@code jsonFilePath}.
+     */
+    public static Path getBinaryFilePath(Path jsonFilePath) {
+        String fileName = jsonFilePath.getFileName().toString();
+        String baseName = fileName.endsWith(".json") ? fileName.substring(0, fileName.length() - 5) : fileName;
+        return jsonFilePath.resolveSibling(baseName + FILE_EXTENSION);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        logger.info("Binary file " + filePath + " found.");
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(filePath)))) {
+            readHeader(in, filePath);
+            verifyChecksum(filePath);
+            return Optional.of(JsonSerializableAddressBook.toAddressBook(readPersons(in)));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        syncPolicy.write(filePath, sync ->
+                FileUtil.writeToFileAtomically(filePath, out -> write(addressBook, out), sync));
+    }
+
+    /**
+     * Replaces the data in this storage with the address book in the json file at {@code jsonFilePath}.
+     *
+     * @return false if there is no json file to import.
+     * @throws DataLoadingException if the json file cannot be read.
+     * @throws IOException if there was any problem writing to the binary file.
+     */
+    public boolean importJson(Path jsonFilePath) throws DataLoadingException, IOException {
+        requireNonNull(jsonFilePath);
+        return copyFrom(new JsonAddressBookStorage(jsonFilePath));
+    }
+
+    /**
+     * Writes the data in this storage to the json file at {@code jsonFilePath}, which can be edited by hand and read
+     * by the other storage modes.
+     *
+     * @return false if this storage has no data to export.
+     * @throws DataLoadingException if the binary file cannot be read.
+     * @throws IOException if there was any problem writing to the json file.
+     */
+    public boolean exportJson(Path jsonFilePath) throws DataLoadingException, IOException {
+        requireNonNull(jsonFilePath);
+        return new JsonAddressBookStorage(jsonFilePath).copyFrom(this);
+    }
+
+    private static void write(ReadOnlyAddressBook addressBook, OutputStream target) throws IOException {
+        CRC32 checksum = new CRC32();
+        DataOutputStream out = new DataOutputStream(
+                new CheckedOutputStream(new BufferedOutputStream(target), checksum));
+        out.writeInt(MAGIC);
+        out.writeInt(FORMAT_VERSION);
+
+        List<Person> persons = addressBook.getPersonList();
+        Map<String, Integer> textTable = new HashMap<>();
+        out.writeInt(persons.size());
+        for (Person person : persons) {
+            writeText(out, person.getName().fullName);
+            writeText(out, person.getPhone().value);
+            writeText(out, person.getEmail().value);
+            writeTableText(out, textTable, person.getAddress().value);
+            writeTableText(out, textTable, person.getRole().fullRole);
+            out.writeByte(person.getTag().ordinal());
+            writeText(out, person.getNote().value);
+            Optional<LocalDate> date = person.getDate().getValue();
+            out.writeInt(date.isPresent() ? Math.toIntExact(date.get().toEpochDay()) : NO_DATE);
+        }
+        out.flush();
+
+        // The checksum is taken before it is written so that it only covers the data before it.
+        int value = (int) checksum.getValue();
+        out.writeInt(value);
+        out.flush();
+    }
+
+    private static void writeText(DataOutputStream out, String text) throws IOException {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static void writeTableText(DataOutputStream out, Map<String, Integer> textTable, String text)
+            throws IOException {
+        Integer position = textTable.get(text);
+        if (position != null) {
+            out.writeInt(position);
+            return;
+        }
+        textTable.put(text, textTable.size());
+        out.writeInt(NEW_TEXT);
+        writeText(out, text);
+    }
+
+    private static void readHeader(DataInputStream in, Path filePath) throws IOException, IllegalValueException {
+        if (Files.size(filePath) < 2 * Integer.BYTES || in.readInt() != MAGIC) {
+            throw new IllegalValueException(String.format(MESSAGE_NOT_BINARY_FILE, filePath));
+        }
+        int version = in.readInt();
+        if (version != FORMAT_VERSION) {
+            throw new IllegalValueException(
+                    String.format(MESSAGE_UNSUPPORTED_VERSION, filePath, version, FORMAT_VERSION));
+        }
+    }
+
+    /**
+     * Checks the data in the file at {@code filePath} against the checksum at its end.
+     */
+    private static void verifyChecksum(Path filePath) throws IOException, IllegalValueException {
+        long remaining = Files.size(filePath) - Integer.BYTES;
+        CRC32 checksum = new CRC32();
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(filePath))) {
+            byte[] buffer = new byte[CHECKSUM_BUFFER_SIZE];
+            while (remaining > 0) {
+                int read = in.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+                if (read < 0) {
+                    throw new EOFException();
+                }
+                checksum.update(buffer, 0, read);
+                remaining -= read;
+            }
+            if (new DataInputStream(in).readInt() != (int) checksum.getValue()) {
+                throw new IllegalValueException(String.format(MESSAGE_CHECKSUM_MISMATCH, filePath));
+            }
+        }
+    }
+
+    private static List<Person> readPersons(DataInputStream in) throws IOException, IllegalValueException {
+        int count = in.readInt();
+        List<Person> persons = new ArrayList<>();
+        List<String> textTable = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            try {
+                persons.add(readPerson(in, textTable));
+            } catch (IllegalValueException | IllegalArgumentException e) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_PERSON, i + 1, e.getMessage()), e);
+            }
+        }
+        return persons;
+    }
+
+    private static Person readPerson(DataInputStream in, List<String> textTable)
+            throws IOException, IllegalValueException {
+        Name name = new Name(readText(in));
+        Phone phone = new Phone(readText(in));
+        Email email = new Email(readText(in));
+        Address address = new Address(readTableText(in, textTable));
+        Role role = new Role(readTableText(in, textTable));
+        int tagOrdinal = in.readUnsignedByte();
+        if (tagOrdinal >= Tag.values().length) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_TAG, tagOrdinal));
+        }
+        Tag tag = Tag.values()[tagOrdinal];
+        Note note = new Note(readText(in));
+        int epochDay = in.readInt();
+        InterviewDate date = epochDay == NO_DATE
+                ? new InterviewDate()
+                : InterviewDate.of(LocalDate.ofEpochDay(epochDay));
+        return new Person(name, phone, email, address, role, tag, note, date);
+    }
+
+    private static String readText(DataInputStream in) throws IOException, IllegalValueException {
+        int length = in.readInt();
+        if (length < 0) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_LENGTH, length));
+        }
+        byte[] bytes = in.readNBytes(length);
+        if (bytes.length < length) {
+            throw new EOFException();
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static String readTableText(DataInputStream in, List<String> textTable)
+            throws IOException, IllegalValueException {
+        int position = in.readInt();
+        if (position == NEW_TEXT) {
+            String text = readText(in);
+            textTable.add(text);
+            return text;
+        }
+        if (position < 0 || position >= textTable.size()) {
+            throw new IllegalValueException(
+                    String.format(MESSAGE_INVALID_TEXT_REFERENCE, position, textTable.size()));
+        }
+        return textTable.get(position);
+    }
+}
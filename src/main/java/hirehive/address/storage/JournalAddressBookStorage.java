@@ -0,0 +1,434 @@
+package hirehive.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+
+import hirehive.address.commons.core.Durability;
+import hirehive.address.commons.core.LogsCenter;
+import hirehive.address.commons.exceptions.DataLoadingException;
+import hirehive.address.commons.exceptions.IllegalValueException;
+import hirehive.address.commons.util.AppUtil;
+import hirehive.address.commons.util.FileUtil;
+import hirehive.address.commons.util.JsonUtil;
+import hirehive.address.commons.util.StringUtil;
+import hirehive.address.model.AddressBook;
+import hirehive.address.model.AddressBookSnapshot;
+import hirehive.address.model.PersonChange;
+import hirehive.address.model.ReadOnlyAddressBook;
+import hirehive.address.model.person.exceptions.DuplicatePersonException;
+import hirehive.address.model.person.exceptions.PersonNotFoundException;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot plus a journal of the changes made since.
+ * Each save appends the changes made since the previous save to the journal, one json record per line, so a save
+ * costs as much as the changes rather than the whole address book. Once the journal holds enough records, a new
+ * snapshot is written in the background and the records it includes are dropped from the journal.
+ * <p>
+ * The snapshot is an ordinary address book json file that also holds the sequence number of the last record it
+ * includes. Records up to that number are skipped when the journal is replayed, so the data is read correctly no
+ * matter how far a save or compaction got before it was interrupted.
+ */
+public class JournalAddressBookStorage implements AddressBookStorage {
+
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 1000;
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final String SNAPSHOT_FILE_EXTENSION = ".snapshot.json";
+    public static final String MESSAGE_MISSING_PERSON = "Journal record %d changes a person that does not exist.";
+    public static final String MESSAGE_DUPLICATE_PERSON = "Journal record %d results in duplicate persons.";
+
+    private static final Logger logger = LogsCenter.getLogger(JournalAddressBookStorage.class);
+
+    private final Path filePath;
+    private final int compactionThreshold;
+    private final SyncPolicy syncPolicy;
+    private final ExecutorService compactor = Executors.newSingleThreadExecutor(task -> {
+        Thread thread = new Thread(task, "address-book-compactor");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private Future<?> compaction = CompletableFuture.completedFuture(null);
+
+    /** The file last saved to or read from, or null if its journal may not follow on from the last saved data. */
+    private Path savedFilePath;
+    private long savedVersion;
+    /** The sequence number of the last record written to the journal of {@code savedFilePath}. */
+    private long lastSequence;
+
+    /** Guards the journal of {@code savedFilePath} and its record count, which the compactor also changes. */
+    private final Object journalLock = new Object();
+    private int journalRecords;
+
+    /**
+     * Creates a storage for the snapshot at {@code filePath} that compacts its journal every
+     * {@value #DEFAULT_COMPACTION_THRESHOLD} records, and where every save waits for its data to reach the disk.
+     */
+    public JournalAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD, Durability.ALWAYS);
+    }
+
+    /**
+     * Creates a storage for the snapshot at {@code filePath} that compacts its journal every
+     * {@code compactionThreshold} records, and waits for saved data to reach the disk as often as
+     * {@code durability} requires.
+     */
+    public JournalAddressBookStorage(Path filePath, int compactionThreshold, Durability durability) {
+        requireNonNull(filePath);
+        AppUtil.checkArgument(compactionThreshold > 0, "Compaction threshold must be positive");
+        this.filePath = filePath;
+        this.compactionThreshold = compactionThreshold;
+        syncPolicy = new SyncPolicy(durability);
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the snapshot kept in place of the json file at {@code jsonFilePath}.
+     * It has a name of its own, so that the json storage mode never reads it without its journal.
+     */
+    public static Path getSnapshotFilePath(Path jsonFilePath) {
+        String fileName = jsonFilePath.getFileName().toString();
+        String baseName = fileName.endsWith(".json") ? fileName.substring(0, fileName.length() - 5) : fileName;
+        return jsonFilePath.resolveSibling(baseName + SNAPSHOT_FILE_EXTENSION);
+    }
+
+    /**
+     * Returns the path of the journal kept next to the snapshot at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * An incomplete last record in the journal, left by an interrupted save, is ignored.
+     * Unless there was one, the next save of the address book read, or of a copy of it, only appends its changes.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Path journalFilePath = getJournalFilePath(filePath);
+        try {
+            JsonAddressBookReader snapshotReader = new JsonAddressBookReader(filePath);
+            Optional<AddressBook> snapshot = snapshotReader.read();
+            if (snapshot.isEmpty() && !Files.exists(journalFilePath)) {
+                return Optional.empty();
+            }
+
+            AddressBook addressBook = snapshot.orElseGet(AddressBook::new);
+            long snapshotSequence = snapshotReader.getJournalSequence();
+            String[] lines = Files.exists(journalFilePath) ? readJournal(journalFilePath) : new String[] {""};
+            List<JsonAdaptedPersonChange> records = readRecords(lines, journalFilePath);
+            replayJournal(records, snapshotSequence, addressBook);
+
+            // appending after an incomplete record would corrupt the next one, so a snapshot must replace it
+            boolean isJournalComplete = lines[lines.length - 1].isEmpty();
+            if (isJournalComplete && compaction.isDone()) {
+                rememberRead(filePath, addressBook, snapshotSequence, records);
+            } else {
+                savedFilePath = null;
+            }
+            return Optional.of(addressBook);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Only the changes are written if the previous save was of an earlier version of the same address book to the
+     * same file, and those changes are still known. Otherwise a new snapshot replaces the snapshot and journal.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     */
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        Optional<List<PersonChange>> changes = filePath.equals(savedFilePath)
+                ? addressBook.getChangesSince(savedVersion)
+                : Optional.empty();
+        try {
+            if (changes.isPresent()) {
+                appendToJournal(changes.get(), filePath);
+            } else {
+                replaceSnapshot(addressBook, filePath);
+            }
+        } catch (IOException e) {
+            // the journal may now end with a partial record, so the next save starts afresh with a new snapshot
+            savedFilePath = null;
+            throw e;
+        }
+        savedFilePath = filePath;
+        savedVersion = addressBook.getVersion();
+
+        if (getJournalRecords() >= compactionThreshold && compaction.isDone()) {
+            startCompaction(addressBook, filePath);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * The snapshot is renamed first, so that its journal is not replayed on its own if renaming it fails.
+     */
+    @Override
+    public synchronized void moveAddressBookAside(String suffix) throws IOException {
+        // a compaction finishing after this would write the snapshot back
+        awaitCompaction();
+        AddressBookStorage.super.moveAddressBookAside(suffix);
+        savedFilePath = null;
+        synchronized (journalLock) {
+            Path journalFilePath = getJournalFilePath(filePath);
+            if (Files.exists(journalFilePath)) {
+                Files.move(journalFilePath, journalFilePath.resolveSibling(journalFilePath.getFileName() + suffix),
+                        StandardCopyOption.REPLACE_EXISTING);
+            }
+            journalRecords = 0;
+        }
+    }
+
+    /**
+     * Waits for the compaction in progress, if any, to finish.
+     */
+    void awaitCompaction() throws IOException {
+        try {
+            compaction.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for the journal to be compacted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e); // compactions handle their own errors
+        }
+    }
+
+    private int getJournalRecords() {
+        synchronized (journalLock) {
+            return journalRecords;
+        }
+    }
+
+    /**
+     * Returns the complete records in {@code lines}, the lines of the journal at {@code journalFilePath}.
+     */
+    private static List<JsonAdaptedPersonChange> readRecords(String[] lines, Path journalFilePath)
+            throws DataLoadingException {
+        // every complete record ends with a line break, so the last element is empty unless a record was cut off
+        if (!lines[lines.length - 1].isEmpty()) {
+            logger.warning("Ignoring incomplete last record of " + journalFilePath);
+        }
+        List<JsonAdaptedPersonChange> records = new ArrayList<>(lines.length - 1);
+        for (int i = 0; i < lines.length - 1; i++) {
+            try {
+                records.add(JsonUtil.fromJsonString(lines[i], JsonAdaptedPersonChange.class));
+            } catch (IOException e) {
+                logger.warning("Error reading record " + (i + 1) + " of " + journalFilePath + ": " + e);
+                throw new DataLoadingException(e);
+            }
+        }
+        return records;
+    }
+
+    /**
+     * Applies the {@code records} numbered after {@code snapshotSequence}.
+     */
+    private static void replayJournal(List<JsonAdaptedPersonChange> records, long snapshotSequence,
+            AddressBook addressBook) throws IllegalValueException {
+        for (JsonAdaptedPersonChange record : records) {
+            if (record.getSequence() <= snapshotSequence) {
+                continue; // already included in the snapshot
+            }
+
+            try {
+                record.toModelType().applyTo(addressBook);
+            } catch (PersonNotFoundException pnfe) {
+                throw new IllegalValueException(String.format(MESSAGE_MISSING_PERSON, record.getSequence()), pnfe);
+            } catch (DuplicatePersonException dpe) {
+                throw new IllegalValueException(String.format(MESSAGE_DUPLICATE_PERSON, record.getSequence()), dpe);
+            }
+        }
+    }
+
+    /**
+     * Remembers {@code addressBook}, read from the snapshot at {@code filePath} and the journal {@code records},
+     * as saved there, so that the next save appends to that journal.
+     */
+    private void rememberRead(Path filePath, ReadOnlyAddressBook addressBook, long snapshotSequence,
+            List<JsonAdaptedPersonChange> records) {
+        long sequence = snapshotSequence;
+        for (JsonAdaptedPersonChange record : records) {
+            sequence = Math.max(sequence, record.getSequence());
+        }
+        savedFilePath = filePath;
+        savedVersion = addressBook.getVersion();
+        lastSequence = sequence;
+        synchronized (journalLock) {
+            journalRecords = records.size();
+        }
+    }
+
+    private static String[] readJournal(Path journalFilePath) throws DataLoadingException {
+        try {
+            return FileUtil.readFromFile(journalFilePath).split("\n", -1);
+        } catch (IOException e) {
+            logger.warning("Error reading from journal file " + journalFilePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+    }
+
+    /**
+     * Returns the sequence number of the last complete record in the journal at {@code journalFilePath}.
+     */
+    private static long readLastSequence(Path journalFilePath) throws IOException {
+        if (!Files.exists(journalFilePath)) {
+            return 0;
+        }
+
+        long sequence = 0;
+        String[] lines = FileUtil.readFromFile(journalFilePath).split("\n", -1);
+        for (int i = 0; i < lines.length - 1; i++) {
+            try {
+                sequence = Math.max(sequence, JsonUtil.fromJsonString(lines[i], JsonAdaptedPersonChange.class)
+                        .getSequence());
+            } catch (IOException e) {
+                // an unreadable record cannot be replayed either, so it does not matter which number it had
+                logger.warning("Skipping unreadable record " + (i + 1) + " of " + journalFilePath);
+            }
+        }
+        return sequence;
+    }
+
+    private void appendToJournal(List<PersonChange> changes, Path filePath) throws IOException {
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        StringBuilder records = new StringBuilder();
+        for (PersonChange change : changes) {
+            records.append(JsonUtil.toJsonLine(new JsonAdaptedPersonChange(++lastSequence, change))).append('\n');
+        }
+        synchronized (journalLock) {
+            Path journalFilePath = getJournalFilePath(filePath);
+            syncPolicy.write(journalFilePath, sync -> FileUtil.appendToFile(journalFilePath, records.toString(), sync));
+            journalRecords += changes.size();
+        }
+    }
+
+    /**
+     * Replaces the snapshot and journal at {@code filePath} with a snapshot of {@code addressBook}.
+     */
+    private void replaceSnapshot(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        // a compaction finishing after this would replace the new snapshot with an older one
+        awaitCompaction();
+
+        Path journalFilePath = getJournalFilePath(filePath);
+        // the new snapshot must include every record in the journal, or they would be replayed on top of it
+        long sequence = filePath.equals(savedFilePath) ? lastSequence : readLastSequence(journalFilePath);
+        writeSnapshot(addressBook, sequence, filePath);
+        synchronized (journalLock) {
+            Files.deleteIfExists(journalFilePath);
+            journalRecords = 0;
+        }
+        lastSequence = sequence;
+    }
+
+    private void startCompaction(ReadOnlyAddressBook addressBook, Path filePath) {
+        // the address book may change once the save returns, so the compactor needs a copy of it
+        ReadOnlyAddressBook snapshot = addressBook instanceof AddressBookSnapshot
+                ? addressBook
+                : new AddressBookSnapshot(addressBook);
+        long sequence = lastSequence;
+        Path journalFilePath = getJournalFilePath(filePath);
+
+        long includedBytes;
+        int includedRecords;
+        synchronized (journalLock) {
+            try {
+                includedBytes = Files.size(journalFilePath);
+            } catch (IOException e) {
+                logger.warning("Failed to start compacting " + journalFilePath + ": " + StringUtil.getDetails(e));
+                return;
+            }
+            includedRecords = journalRecords;
+        }
+        compaction = compactor.submit(() ->
+                compact(snapshot, sequence, filePath, includedBytes, includedRecords));
+    }
+
+    /**
+     * Writes {@code snapshot}, which includes the first {@code includedRecords} records of the journal up to
+     * {@code sequence}, then drops those records from the journal.
+     */
+    private void compact(ReadOnlyAddressBook snapshot, long sequence, Path filePath, long includedBytes,
+            int includedRecords) {
+        Path journalFilePath = getJournalFilePath(filePath);
+        try {
+            writeSnapshot(snapshot, sequence, filePath);
+            synchronized (journalLock) {
+                dropJournalPrefix(journalFilePath, includedBytes);
+                journalRecords -= includedRecords;
+            }
+        } catch (IOException e) {
+            // the journal still holds every record, so nothing is lost and a later save compacts it again
+            logger.warning("Failed to compact " + journalFilePath + ": " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Writes {@code addressBook} as the snapshot at {@code filePath}, including the records up to {@code sequence}.
+     */
+    private void writeSnapshot(ReadOnlyAddressBook addressBook, long sequence, Path filePath) throws IOException {
+        syncPolicy.write(filePath, sync -> new JsonAddressBookWriter(addressBook, sequence).write(filePath, sync));
+    }
+
+    /**
+     * Removes the first {@code prefixBytes} bytes of the journal at {@code journalFilePath}.
+     */
+    private void dropJournalPrefix(Path journalFilePath, long prefixBytes) throws IOException {
+        syncPolicy.write(journalFilePath, sync -> {
+            Path tempFilePath = FileUtil.getTempFile(journalFilePath);
+            try (FileChannel source = FileChannel.open(journalFilePath, StandardOpenOption.READ);
+                    FileChannel target = FileChannel.open(tempFilePath, StandardOpenOption.CREATE,
+                            StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                long position = prefixBytes;
+                long size = source.size();
+                while (position < size) {
+                    position += source.transferTo(position, size - position, target);
+                }
+                if (sync) {
+                    target.force(true);
+                }
+            }
+            FileUtil.moveIntoPlace(tempFilePath, journalFilePath, sync);
+        });
+    }
+}
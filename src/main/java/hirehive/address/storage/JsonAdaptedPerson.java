@@ -3,7 +3,9 @@ package hirehive.address.storage;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -78,42 +80,27 @@ class JsonAdaptedPerson {
         if (name == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
         }
-        if (!Name.isValidName(name)) {
-            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
-        }
-        final Name modelName = new Name(name);
+        final Name modelName = toModelField(Name::new, name);
 
         if (phone == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Phone.class.getSimpleName()));
         }
-        if (!Phone.isValidPhone(phone)) {
-            throw new IllegalValueException(Phone.MESSAGE_CONSTRAINTS);
-        }
-        final Phone modelPhone = new Phone(phone);
+        final Phone modelPhone = toModelField(Phone::new, phone);
 
         if (email == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Email.class.getSimpleName()));
         }
-        if (!Email.isValidEmail(email)) {
-            throw new IllegalValueException(Email.MESSAGE_CONSTRAINTS);
-        }
-        final Email modelEmail = new Email(email);
+        final Email modelEmail = toModelField(Email::new, email);
 
         if (address == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Address.class.getSimpleName()));
         }
-        if (!Address.isValidAddress(address)) {
-            throw new IllegalValueException(Address.MESSAGE_CONSTRAINTS);
-        }
-        final Address modelAddress = new Address(address);
+        final Address modelAddress = toModelField(Address::new, address);
 
         if (role == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Role.class.getSimpleName()));
         }
-        if (!Role.isValidRole(role)) {
-            throw new IllegalValueException(Role.MESSAGE_CONSTRAINTS);
-        }
-        final Role modelRole = new Role(role);
+        final Role modelRole = toModelField(Role::new, role);
 
         if (tag == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Tag.class.getSimpleName()));
@@ -123,21 +110,60 @@ class JsonAdaptedPerson {
         if (note == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Note.class.getSimpleName()));
         }
-        if (!Note.isValidNote(note)) {
-            throw new IllegalValueException(Note.MESSAGE_CONSTRAINTS);
-        }
-        final Note modelNote = new Note(note);
+        final Note modelNote = toModelField(Note::new, note);
 
         if (date == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
                     InterviewDate.class.getSimpleName()));
         }
-        if (!InterviewDate.isValidDate(date)) {
-            throw new IllegalValueException(InterviewDate.MESSAGE_CONSTRAINTS);
-        }
-        final InterviewDate modelDate = new InterviewDate(date);
+        final InterviewDate modelDate = toModelField(InterviewDate::new, date);
 
         return new Person(modelName, modelPhone, modelEmail, modelAddress, modelRole, modelTag, modelNote, modelDate);
     }
 
+    /**
+     * Returns the model's value object made from {@code value} by {@code constructor}.
+     * The constructor validates {@code value} itself, so it is not also checked beforehand.
+     *
+     * @throws IllegalValueException with the value object's constraints if {@code value} is not valid.
+     */
+    private static <T> T toModelField(Function<String, T> constructor, String value) throws IllegalValueException {
+        try {
+            return constructor.apply(value);
+        } catch (IllegalArgumentException iae) {
+            throw new IllegalValueException(iae.getMessage(), iae);
+        }
+    }
+
+    /**
+     * Returns true if {@code other} would be stored exactly the same as this, unlike {@link Person#equals(Object)},
+     * which ignores the case of names.
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof JsonAdaptedPerson)) {
+            return false;
+        }
+
+        JsonAdaptedPerson otherPerson = (JsonAdaptedPerson) other;
+        return Objects.equals(name, otherPerson.name)
+                && Objects.equals(phone, otherPerson.phone)
+                && Objects.equals(email, otherPerson.email)
+                && Objects.equals(address, otherPerson.address)
+                && Objects.equals(role, otherPerson.role)
+                && Objects.equals(tag, otherPerson.tag)
+                && Objects.equals(note, otherPerson.note)
+                && Objects.equals(date, otherPerson.date);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, phone, email, address, role, tag, note, date);
+    }
+
 }
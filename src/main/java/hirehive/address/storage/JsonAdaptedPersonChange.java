@@ -0,0 +1,80 @@
+package hirehive.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import hirehive.address.commons.exceptions.IllegalValueException;
+import hirehive.address.model.PersonChange;
+import hirehive.address.model.person.Person;
+
+/**
+ * Jackson-friendly version of {@link PersonChange}, numbered as a record of a journal.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedPersonChange {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Journal record's %s field is missing!";
+    public static final String MESSAGE_INVALID_TYPE = "Journal record's type %s is not one of ADD, SET or REMOVE!";
+
+    private final long sequence;
+    private final String type;
+    private final JsonAdaptedPerson person;
+    private final JsonAdaptedPerson editedPerson;
+
+    /**
+     * Constructs a {@code JsonAdaptedPersonChange} with the given record details.
+     */
+    @JsonCreator
+    public JsonAdaptedPersonChange(@JsonProperty("sequence") long sequence, @JsonProperty("type") String type,
+            @JsonProperty("person") JsonAdaptedPerson person,
+            @JsonProperty("editedPerson") JsonAdaptedPerson editedPerson) {
+        this.sequence = sequence;
+        this.type = type;
+        this.person = person;
+        this.editedPerson = editedPerson;
+    }
+
+    /**
+     * Converts a given {@code PersonChange} into the journal record numbered {@code sequence}, for Jackson use.
+     */
+    public JsonAdaptedPersonChange(long sequence, PersonChange source) {
+        this.sequence = sequence;
+        type = source.getType().name();
+        person = new JsonAdaptedPerson(source.getPerson());
+        editedPerson = source.getEditedPerson().map(JsonAdaptedPerson::new).orElse(null);
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted record into the model's {@code PersonChange} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted record.
+     */
+    public PersonChange toModelType() throws IllegalValueException {
+        if (type == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "type"));
+        }
+        if (person == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "person"));
+        }
+
+        final Person modelPerson = person.toModelType();
+        switch (type) {
+        case "ADD":
+            return PersonChange.add(modelPerson);
+        case "REMOVE":
+            return PersonChange.remove(modelPerson);
+        case "SET":
+            if (editedPerson == null) {
+                throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "editedPerson"));
+            }
+            return PersonChange.set(modelPerson, editedPerson.toModelType());
+        default:
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_TYPE, type));
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package hirehive.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import hirehive.address.commons.core.LogsCenter;
+import hirehive.address.commons.exceptions.DataLoadingException;
+import hirehive.address.commons.exceptions.IllegalValueException;
+import hirehive.address.commons.util.JsonUtil;
+import hirehive.address.model.AddressBook;
+import hirehive.address.model.person.Person;
+
+/**
+ * Reads an address book json file as it goes, converting persons to {@code Person}s a batch at a time.
+ * Unlike reading the file into a {@link JsonSerializableAddressBook}, neither the text of the file nor the adapted
+ * form of more than one batch of persons is held in memory at a time.
+ */
+class JsonAddressBookReader {
+
+    /** How many persons are read before they are converted together. */
+    static final int BATCH_SIZE = 4096;
+
+    private static final Logger logger = LogsCenter.getLogger(JsonAddressBookReader.class);
+
+    private final Path filePath;
+    private long journalSequence;
+
+    JsonAddressBookReader(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns the address book in the file, or {@code Optional.empty()} if the file is not found.
+     *
+     * @throws DataLoadingException if the file cannot be read or is not an address book json file.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    Optional<AddressBook> read() throws DataLoadingException, IllegalValueException {
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        logger.info("JSON file " + filePath + " found.");
+
+        List<Person> persons = new ArrayList<>();
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            expect(parser, parser.nextToken(), JsonToken.START_OBJECT);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken valueToken = parser.nextToken();
+                if (fieldName.equals("persons")) {
+                    expect(parser, valueToken, JsonToken.START_ARRAY);
+                    readPersons(parser, persons);
+                } else if (fieldName.equals("journalSequence") && valueToken != JsonToken.VALUE_NULL) {
+                    journalSequence = parser.getLongValue();
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+        return Optional.of(JsonSerializableAddressBook.toAddressBook(persons));
+    }
+
+    /**
+     * Returns the sequence number of the last journal record included in the address book last read.
+     *
+     * @see JsonSerializableAddressBook#getJournalSequence()
+     */
+    long getJournalSequence() {
+        return journalSequence;
+    }
+
+    /**
+     * Converts each person in the array that {@code parser} has just entered and adds it to {@code persons}.
+     * Persons are converted a batch at a time, in parallel within each batch, so the first invalid person in the
+     * array is still the one reported.
+     */
+    private static void readPersons(JsonParser parser, List<Person> persons)
+            throws IOException, IllegalValueException {
+        List<JsonAdaptedPerson> batch = new ArrayList<>();
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            expect(parser, token, JsonToken.START_OBJECT);
+            batch.add(parser.readValueAs(JsonAdaptedPerson.class));
+            if (batch.size() == BATCH_SIZE) {
+                persons.addAll(JsonSerializableAddressBook.toModelPersons(batch));
+                batch.clear();
+            }
+        }
+        persons.addAll(JsonSerializableAddressBook.toModelPersons(batch));
+    }
+
+    private static void expect(JsonParser parser, JsonToken actual, JsonToken expected) throws JsonParseException {
+        if (actual != expected) {
+            throw new JsonParseException(parser, "Expected " + expected + " but found " + actual);
+        }
+    }
+}
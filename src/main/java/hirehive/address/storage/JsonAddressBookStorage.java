@@ -7,24 +7,37 @@ import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import hirehive.address.commons.core.Durability;
 import hirehive.address.commons.core.LogsCenter;
 import hirehive.address.commons.exceptions.DataLoadingException;
 import hirehive.address.commons.exceptions.IllegalValueException;
-import hirehive.address.commons.util.FileUtil;
-import hirehive.address.commons.util.JsonUtil;
 import hirehive.address.model.ReadOnlyAddressBook;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ * The file is replaced in one step on every save, so an interrupted save leaves the previous data intact.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
+    private final SyncPolicy syncPolicy;
 
+    /**
+     * Creates a storage for the file at {@code filePath} where every save waits for its data to reach the disk.
+     */
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, Durability.ALWAYS);
+    }
+
+    /**
+     * Creates a storage for the file at {@code filePath} that waits for saved data to reach the disk as often as
+     * {@code durability} requires.
+     */
+    public JsonAddressBookStorage(Path filePath, Durability durability) {
         this.filePath = filePath;
+        syncPolicy = new SyncPolicy(durability);
     }
 
     public Path getAddressBookFilePath() {
@@ -45,14 +58,8 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
-            return Optional.empty();
-        }
-
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            return new JsonAddressBookReader(filePath).read().map(ReadOnlyAddressBook.class::cast);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
@@ -73,8 +80,7 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        syncPolicy.write(filePath, sync -> new JsonAddressBookWriter(addressBook).write(filePath, sync));
     }
 
 }
@@ -0,0 +1,69 @@
+package hirehive.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import hirehive.address.commons.util.FileUtil;
+import hirehive.address.commons.util.JsonUtil;
+import hirehive.address.model.ReadOnlyAddressBook;
+import hirehive.address.model.person.Person;
+
+/**
+ * Writes an address book json file straight from the person list, one person at a time.
+ * Unlike saving a {@link JsonSerializableAddressBook}, neither an adapted copy of the whole person list nor the text
+ * of the whole file is held in memory, so saving takes the same memory however large the address book is.
+ * The file written has the same format as a saved {@code JsonSerializableAddressBook}.
+ */
+class JsonAddressBookWriter {
+
+    private final ReadOnlyAddressBook addressBook;
+    private final Long journalSequence;
+
+    /**
+     * Creates a writer for {@code addressBook}.
+     */
+    JsonAddressBookWriter(ReadOnlyAddressBook addressBook) {
+        this(addressBook, null);
+    }
+
+    /**
+     * Creates a writer for {@code addressBook} as a snapshot of a journal, including the records up to
+     * {@code journalSequence}.
+     */
+    JsonAddressBookWriter(ReadOnlyAddressBook addressBook, Long journalSequence) {
+        requireNonNull(addressBook);
+        this.addressBook = addressBook;
+        this.journalSequence = journalSequence;
+    }
+
+    /**
+     * Replaces the file at {@code filePath} with the address book, as described in
+     * {@link FileUtil#writeToFileAtomically(Path, FileUtil.ContentWriter, boolean)}.
+     *
+     * @param sync whether to wait for the file to reach the disk.
+     */
+    void write(Path filePath, boolean sync) throws IOException {
+        requireNonNull(filePath);
+        FileUtil.writeToFileAtomically(filePath, this::writeTo, sync);
+    }
+
+    private void writeTo(OutputStream out) throws IOException {
+        try (JsonGenerator generator = JsonUtil.createGenerator(out)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("persons");
+            for (Person person : addressBook.getPersonList()) {
+                generator.writeObject(new JsonAdaptedPerson(person));
+            }
+            generator.writeEndArray();
+            if (journalSequence != null) {
+                generator.writeNumberField("journalSequence", journalSequence);
+            }
+            generator.writeEndObject();
+        }
+    }
+}
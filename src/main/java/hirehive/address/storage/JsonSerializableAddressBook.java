@@ -1,10 +1,14 @@
 package hirehive.address.storage;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
@@ -12,6 +16,7 @@ import hirehive.address.commons.exceptions.IllegalValueException;
 import hirehive.address.model.AddressBook;
 import hirehive.address.model.ReadOnlyAddressBook;
 import hirehive.address.model.person.Person;
+import hirehive.address.model.person.exceptions.DuplicatePersonException;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
@@ -20,15 +25,31 @@ import hirehive.address.model.person.Person;
 class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
+    public static final String MESSAGE_DUPLICATE_PERSON_GROUPS = MESSAGE_DUPLICATE_PERSON + " Duplicates: %1$s";
+
+    /** Lists of persons at least this long are converted in parallel. */
+    static final int PARALLEL_CONVERSION_THRESHOLD = 256;
 
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
+    /** The sequence number of the last journal record included, if saved as a snapshot of a journal. */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Long journalSequence;
 
     /**
      * Constructs a {@code JsonSerializableAddressBook} with the given persons.
      */
+    public JsonSerializableAddressBook(List<JsonAdaptedPerson> persons) {
+        this(persons, null);
+    }
+
+    /**
+     * Constructs a {@code JsonSerializableAddressBook} with the given persons and journal sequence number.
+     */
     @JsonCreator
-    public JsonSerializableAddressBook(@JsonProperty("persons") List<JsonAdaptedPerson> persons) {
+    public JsonSerializableAddressBook(@JsonProperty("persons") List<JsonAdaptedPerson> persons,
+            @JsonProperty("journalSequence") Long journalSequence) {
         this.persons.addAll(persons);
+        this.journalSequence = journalSequence;
     }
 
     /**
@@ -38,6 +59,15 @@ class JsonSerializableAddressBook {
      */
     public JsonSerializableAddressBook(ReadOnlyAddressBook source) {
         persons.addAll(source.getPersonList().stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()));
+        journalSequence = null;
+    }
+
+    /**
+     * Returns the sequence number of the last journal record included in this address book.
+     * Address books not saved as a snapshot of a journal include no journal records, so this is 0 for them.
+     */
+    public long getJournalSequence() {
+        return journalSequence == null ? 0 : journalSequence;
     }
 
     /**
@@ -46,13 +76,57 @@ class JsonSerializableAddressBook {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        return toAddressBook(toModelPersons(persons));
+    }
+
+    /**
+     * Converts {@code adaptedPersons} into the model's {@code Person} objects, keeping their order.
+     * Long lists are converted in parallel, since no person depends on another, but the error reported is always
+     * that of the first invalid person in the list.
+     *
+     * @throws IllegalValueException if any person violates the data constraints.
+     */
+    static List<Person> toModelPersons(List<JsonAdaptedPerson> adaptedPersons) throws IllegalValueException {
+        int size = adaptedPersons.size();
+        Person[] modelPersons = new Person[size];
+        IllegalValueException[] errors = new IllegalValueException[size];
+        AtomicInteger firstInvalidIndex = new AtomicInteger(size);
+
+        IntStream indices = IntStream.range(0, size);
+        if (size >= PARALLEL_CONVERSION_THRESHOLD) {
+            indices = indices.parallel();
+        }
+        indices.forEach(i -> {
+            if (i > firstInvalidIndex.get()) {
+                // an earlier person is already known to be invalid, so this one's error would not be reported
+                return;
             }
-            addressBook.addPerson(person);
+            try {
+                modelPersons[i] = adaptedPersons.get(i).toModelType();
+            } catch (IllegalValueException ive) {
+                errors[i] = ive;
+                firstInvalidIndex.accumulateAndGet(i, Math::min);
+            }
+        });
+
+        if (firstInvalidIndex.get() < size) {
+            throw errors[firstInvalidIndex.get()];
+        }
+        return Arrays.asList(modelPersons);
+    }
+
+    /**
+     * Returns an {@code AddressBook} of the loaded {@code persons}.
+     *
+     * @throws IllegalValueException if {@code persons} contains duplicate persons.
+     */
+    static AddressBook toAddressBook(List<Person> persons) throws IllegalValueException {
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(persons);
+        } catch (DuplicatePersonException dpe) {
+            throw new IllegalValueException(String.format(MESSAGE_DUPLICATE_PERSON_GROUPS,
+                    DuplicatePersonException.describe(dpe.getDuplicateGroups())), dpe);
         }
         return addressBook;
     }
@@ -0,0 +1,51 @@
+package hirehive.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import hirehive.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Jackson-friendly version of one shard of a sharded address book: some of its persons, each with the key that
+ * places it in the order of the whole address book.
+ */
+class JsonSerializableShard {
+
+    public static final String MESSAGE_MISMATCHED_KEYS = "Shard has %d order keys for %d persons!";
+
+    private final List<Long> orderKeys = new ArrayList<>();
+    private final List<JsonAdaptedPerson> persons = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonSerializableShard} with the given persons and their order keys.
+     */
+    @JsonCreator
+    public JsonSerializableShard(@JsonProperty("orderKeys") List<Long> orderKeys,
+            @JsonProperty("persons") List<JsonAdaptedPerson> persons) {
+        if (orderKeys != null) {
+            this.orderKeys.addAll(orderKeys);
+        }
+        if (persons != null) {
+            this.persons.addAll(persons);
+        }
+    }
+
+    /**
+     * Returns the order key of each person, in the same order as {@link #getPersons()}.
+     *
+     * @throws IllegalValueException if the shard does not have exactly one order key for each person.
+     */
+    public List<Long> getOrderKeys() throws IllegalValueException {
+        if (orderKeys.size() != persons.size() || orderKeys.contains(null)) {
+            throw new IllegalValueException(String.format(MESSAGE_MISMATCHED_KEYS, orderKeys.size(), persons.size()));
+        }
+        return orderKeys;
+    }
+
+    public List<JsonAdaptedPerson> getPersons() {
+        return persons;
+    }
+}
@@ -0,0 +1,62 @@
+package hirehive.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import hirehive.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Jackson-friendly list of the shard files that together hold a sharded address book.
+ */
+class JsonShardManifest {
+
+    public static final String MESSAGE_NO_SHARDS = "Shard manifest lists no shard files!";
+    public static final String MESSAGE_INVALID_SHARD = "Shard manifest lists an invalid shard file: %s";
+
+    /** Numbers each save, so that the shard files written by a save never replace those still listed. */
+    private final long generation;
+    private final List<String> shards = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonShardManifest} with the given generation and shard file names, in shard order.
+     */
+    @JsonCreator
+    public JsonShardManifest(@JsonProperty("generation") long generation,
+            @JsonProperty("shards") List<String> shards) {
+        this.generation = generation;
+        if (shards != null) {
+            this.shards.addAll(shards);
+        }
+    }
+
+    public long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Returns the names of the shard files, in shard order.
+     */
+    public List<String> getShards() {
+        return shards;
+    }
+
+    /**
+     * Checks that this manifest lists at least one shard and that each shard is a plain file name.
+     *
+     * @throws IllegalValueException if it does not.
+     */
+    public void validate() throws IllegalValueException {
+        if (shards.isEmpty()) {
+            throw new IllegalValueException(MESSAGE_NO_SHARDS);
+        }
+        for (String shard : shards) {
+            if (shard == null || shard.isEmpty() || shard.contains("/") || shard.contains("\\")
+                    || shard.startsWith(".")) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_SHARD, shard));
+            }
+        }
+    }
+}
@@ -0,0 +1,486 @@
+package hirehive.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import hirehive.address.commons.core.Durability;
+import hirehive.address.commons.core.LogsCenter;
+import hirehive.address.commons.exceptions.DataLoadingException;
+import hirehive.address.commons.exceptions.IllegalValueException;
+import hirehive.address.commons.util.FileUtil;
+import hirehive.address.commons.util.JsonUtil;
+import hirehive.address.model.ReadOnlyAddressBook;
+import hirehive.address.model.person.Person;
+
+/**
+ * A class to access AddressBook data split across several json files on the hard disk, so that a save only rewrites
+ * the files holding persons that changed.
+ * <p>
+ * Each person belongs to the shard picked by the hash of its name's identity key, which is the same on every run.
+ * Each shard file also keeps an order key for each of its persons, so that the persons of all the shards can be put
+ * back in the order of the address book. Persons keep their order keys from save to save, and new persons get keys
+ * between those of their neighbours, so adding, editing or deleting a person only changes the shards it is in.
+ * <p>
+ * A manifest lists the current file of each shard. Changed shards are written to new files, and only then is the
+ * manifest replaced to list them, so an interrupted save leaves the previous data intact.
+ */
+public class ShardedAddressBookStorage implements AddressBookStorage {
+
+    public static final int DEFAULT_SHARD_COUNT = 16;
+    public static final String MANIFEST_FILE_NAME = "manifest.json";
+    public static final String SHARD_DIRECTORY_EXTENSION = ".shards";
+
+    public static final String MESSAGE_MISSING_SHARD = "Shard file %s listed in the manifest is missing!";
+
+    /** The gap between the order keys of consecutive persons when they are numbered afresh. */
+    static final long ORDER_KEY_GAP = 1L << 16;
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedAddressBookStorage.class);
+
+    private final Path manifestFilePath;
+    private final int shardCount;
+    private final SyncPolicy syncPolicy;
+
+    // What was last saved to or read from savedManifestFilePath, to tell which shards the next save must rewrite.
+    private Path savedManifestFilePath;
+    private JsonShardManifest savedManifest;
+    private List<List<ShardEntry>> savedShards;
+    private Map<String, Long> savedOrderKeys;
+
+    /**
+     * Creates a storage with {@link #DEFAULT_SHARD_COUNT} shards listed in the manifest at {@code manifestFilePath},
+     * where every save waits for its data to reach the disk.
+     */
+    public ShardedAddressBookStorage(Path manifestFilePath) {
+        this(manifestFilePath, DEFAULT_SHARD_COUNT, Durability.ALWAYS);
+    }
+
+    /**
+     * Creates a storage with {@code shardCount} shards listed in the manifest at {@code manifestFilePath}, that waits
+     * for saved data to reach the disk as often as {@code durability} requires.
+     * Address books saved with a different number of shards are still read, and are split again on the next save.
+     */
+    public ShardedAddressBookStorage(Path manifestFilePath, int shardCount, Durability durability) {
+        requireNonNull(manifestFilePath);
+        if (shardCount <= 0) {
+            throw new IllegalArgumentException("Shard count must be positive");
+        }
+        this.manifestFilePath = manifestFilePath;
+        this.shardCount = shardCount;
+        syncPolicy = new SyncPolicy(durability);
+    }
+
+    /**
+     * Returns the path of the manifest of the shards kept in place of the json file at {@code jsonFilePath}.
+     */
+    public static Path getManifestFilePath(Path jsonFilePath) {
+        String fileName = jsonFilePath.getFileName().toString();
+        String baseName = fileName.endsWith(".json") ? fileName.substring(0, fileName.length() - 5) : fileName;
+        return jsonFilePath.resolveSibling(baseName + SHARD_DIRECTORY_EXTENSION).resolve(MANIFEST_FILE_NAME);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return manifestFilePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(manifestFilePath);
+    }
+
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path manifestFilePath)
+            throws DataLoadingException {
+        requireNonNull(manifestFilePath);
+
+        Optional<JsonShardManifest> manifest = JsonUtil.readJsonFile(manifestFilePath, JsonShardManifest.class);
+        if (manifest.isEmpty()) {
+            return Optional.empty();
+        }
+
+        try {
+            manifest.get().validate();
+            List<List<ShardEntry>> shards = readShards(manifestFilePath, manifest.get().getShards());
+            List<ShardEntry> entries = shards.stream()
+                    .flatMap(List::stream)
+                    .sorted(Comparator.comparingLong(ShardEntry::getOrderKey))
+                    .collect(Collectors.toList());
+            ReadOnlyAddressBook addressBook = JsonSerializableAddressBook.toAddressBook(
+                    entries.stream().map(ShardEntry::getPerson).collect(Collectors.toList()));
+
+            if (isSplitAsConfigured(shards)) {
+                remember(manifestFilePath, manifest.get(), shards, entries);
+            } else {
+                savedManifestFilePath = null;
+            }
+            return Optional.of(addressBook);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + manifestFilePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, manifestFilePath);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The manifest is renamed first, so that the shards are no longer read even if renaming them fails.
+     */
+    @Override
+    public synchronized void moveAddressBookAside(String suffix) throws IOException {
+        JsonShardManifest manifest = readManifestIfValid(manifestFilePath);
+        AddressBookStorage.super.moveAddressBookAside(suffix);
+        savedManifestFilePath = null;
+        if (manifest == null) {
+            return;
+        }
+        for (String shard : manifest.getShards()) {
+            Path shardFilePath = manifestFilePath.resolveSibling(shard);
+            if (Files.exists(shardFilePath)) {
+                Files.move(shardFilePath, shardFilePath.resolveSibling(shard + suffix),
+                        StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+    }
+
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path manifestFilePath)
+            throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(manifestFilePath);
+
+        List<Person> persons = addressBook.getPersonList();
+        boolean isSavedHere = manifestFilePath.equals(savedManifestFilePath);
+        long[] orderKeys = isSavedHere ? assignOrderKeys(persons, savedOrderKeys) : null;
+        if (orderKeys == null) {
+            isSavedHere = false;
+            orderKeys = numberAfresh(persons.size());
+        }
+        List<List<ShardEntry>> shards = split(persons, orderKeys);
+
+        JsonShardManifest previousManifest = isSavedHere ? savedManifest : readManifestIfValid(manifestFilePath);
+        long generation = previousManifest == null ? 1 : previousManifest.getGeneration() + 1;
+        List<String> shardFiles = new ArrayList<>();
+        List<Integer> changedShards = new ArrayList<>();
+        for (int i = 0; i < shardCount; i++) {
+            if (isSavedHere && shards.get(i).equals(savedShards.get(i))) {
+                shardFiles.add(savedManifest.getShards().get(i));
+            } else {
+                shardFiles.add(getShardFileName(i, generation));
+                changedShards.add(i);
+            }
+        }
+        if (changedShards.isEmpty()) {
+            return;
+        }
+
+        JsonShardManifest manifest = new JsonShardManifest(generation, shardFiles);
+        List<Path> writtenFiles = new ArrayList<>();
+        for (int shard : changedShards) {
+            writtenFiles.add(manifestFilePath.resolveSibling(shardFiles.get(shard)));
+        }
+        writtenFiles.add(manifestFilePath);
+        try {
+            syncPolicy.write(writtenFiles, sync -> {
+                writeShards(manifestFilePath, manifest, shards, changedShards, sync);
+                FileUtil.writeToFileAtomically(manifestFilePath, JsonUtil.toJsonString(manifest), sync);
+            });
+        } catch (IOException e) {
+            // The files on disk may no longer be the ones remembered, so the next save rewrites every shard.
+            savedManifestFilePath = null;
+            throw e;
+        }
+        if (previousManifest != null) {
+            deleteUnlistedShards(manifestFilePath, previousManifest, manifest);
+        }
+
+        List<ShardEntry> entries = new ArrayList<>(persons.size());
+        for (int i = 0; i < persons.size(); i++) {
+            entries.add(new ShardEntry(orderKeys[i], persons.get(i)));
+        }
+        remember(manifestFilePath, manifest, shards, entries);
+    }
+
+    /**
+     * Returns the order keys of {@code persons}, keeping the keys in {@code previousOrderKeys} of as many persons as
+     * can keep them while the keys still increase down the list. Other persons get keys spaced evenly between those
+     * of their neighbours. Returns null if there is no room left between some neighbours.
+     */
+    static long[] assignOrderKeys(List<Person> persons, Map<String, Long> previousOrderKeys) {
+        int size = persons.size();
+        long[] orderKeys = new long[size];
+        boolean[] isKept = new boolean[size];
+        long lastKeptKey = 0;
+        for (int i = 0; i < size; i++) {
+            Long previousKey = previousOrderKeys.get(persons.get(i).getIdentityKey());
+            if (previousKey != null && previousKey > lastKeptKey) {
+                orderKeys[i] = previousKey;
+                isKept[i] = true;
+                lastKeptKey = previousKey;
+            }
+        }
+
+        int runStart = 0;
+        while (runStart < size) {
+            if (isKept[runStart]) {
+                runStart++;
+                continue;
+            }
+            int runEnd = runStart;
+            while (runEnd < size && !isKept[runEnd]) {
+                runEnd++;
+            }
+            long lowerKey = runStart == 0 ? 0 : orderKeys[runStart - 1];
+            long step = runEnd == size ? ORDER_KEY_GAP : (orderKeys[runEnd] - lowerKey) / (runEnd - runStart + 1);
+            if (step == 0) {
+                return null;
+            }
+            for (int i = runStart; i < runEnd; i++) {
+                orderKeys[i] = lowerKey + (i - runStart + 1) * step;
+            }
+            runStart = runEnd;
+        }
+        return orderKeys;
+    }
+
+    private static long[] numberAfresh(int size) {
+        long[] orderKeys = new long[size];
+        for (int i = 0; i < size; i++) {
+            orderKeys[i] = (i + 1) * ORDER_KEY_GAP;
+        }
+        return orderKeys;
+    }
+
+    /**
+     * Returns the shard that {@code person} belongs to.
+     */
+    int getShard(Person person) {
+        return Math.floorMod(person.getIdentityKey().hashCode(), shardCount);
+    }
+
+    private List<List<ShardEntry>> split(List<Person> persons, long[] orderKeys) {
+        List<List<ShardEntry>> shards = new ArrayList<>(shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            shards.add(new ArrayList<>());
+        }
+        for (int i = 0; i < persons.size(); i++) {
+            Person person = persons.get(i);
+            shards.get(getShard(person)).add(new ShardEntry(orderKeys[i], person));
+        }
+        return shards;
+    }
+
+    /**
+     * Returns true if {@code shards}, as read, are split the way this storage would split them, with the persons of
+     * each shard in order, so that they can be compared with the shards of the next save.
+     */
+    private boolean isSplitAsConfigured(List<List<ShardEntry>> shards) {
+        if (shards.size() != shardCount) {
+            return false;
+        }
+        for (int i = 0; i < shardCount; i++) {
+            long lastOrderKey = 0;
+            for (ShardEntry entry : shards.get(i)) {
+                if (getShard(entry.getPerson()) != i || entry.getOrderKey() <= lastOrderKey) {
+                    return false;
+                }
+                lastOrderKey = entry.getOrderKey();
+            }
+        }
+        return true;
+    }
+
+    private void remember(Path manifestFilePath, JsonShardManifest manifest, List<List<ShardEntry>> shards,
+            List<ShardEntry> entries) {
+        Map<String, Long> orderKeys = new HashMap<>();
+        for (ShardEntry entry : entries) {
+            orderKeys.put(entry.getPerson().getIdentityKey(), entry.getOrderKey());
+        }
+        savedManifestFilePath = manifestFilePath;
+        savedManifest = manifest;
+        savedShards = shards;
+        savedOrderKeys = orderKeys;
+    }
+
+    private static String getShardFileName(int shard, long generation) {
+        return "shard-" + shard + "-" + generation + ".json";
+    }
+
+    /**
+     * Writes the shards numbered {@code changedShards} to the files listed for them in {@code manifest}, in parallel.
+     */
+    private static void writeShards(Path manifestFilePath, JsonShardManifest manifest, List<List<ShardEntry>> shards,
+            List<Integer> changedShards, boolean sync) throws IOException {
+        try {
+            changedShards.parallelStream().forEach(shard -> {
+                Path shardFilePath = manifestFilePath.resolveSibling(manifest.getShards().get(shard));
+                try {
+                    writeShard(shardFilePath, shards.get(shard), sync);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static void writeShard(Path shardFilePath, List<ShardEntry> entries, boolean sync) throws IOException {
+        List<Long> orderKeys = new ArrayList<>(entries.size());
+        List<JsonAdaptedPerson> persons = new ArrayList<>(entries.size());
+        for (ShardEntry entry : entries) {
+            orderKeys.add(entry.getOrderKey());
+            persons.add(new JsonAdaptedPerson(entry.getPerson()));
+        }
+        JsonSerializableShard shard = new JsonSerializableShard(orderKeys, persons);
+        FileUtil.writeToFileAtomically(shardFilePath, out -> {
+            try (JsonGenerator generator = JsonUtil.createGenerator(out)) {
+                generator.writeObject(shard);
+            }
+        }, sync);
+    }
+
+    /**
+     * Reads the shard files in {@code shardFiles} in parallel. If any cannot be read, the error reported is that of
+     * the first such shard in the list.
+     */
+    private static List<List<ShardEntry>> readShards(Path manifestFilePath, List<String> shardFiles)
+            throws DataLoadingException, IllegalValueException {
+        int size = shardFiles.size();
+        List<List<ShardEntry>> shards = new ArrayList<>(Collections.nCopies(size, null));
+        Exception[] errors = new Exception[size];
+        IntStream.range(0, size).parallel().forEach(i -> {
+            try {
+                shards.set(i, readShard(manifestFilePath.resolveSibling(shardFiles.get(i))));
+            } catch (DataLoadingException | IllegalValueException e) {
+                errors[i] = e;
+            }
+        });
+
+        for (Exception error : errors) {
+            if (error instanceof DataLoadingException) {
+                throw (DataLoadingException) error;
+            } else if (error != null) {
+                throw (IllegalValueException) error;
+            }
+        }
+        return shards;
+    }
+
+    private static List<ShardEntry> readShard(Path shardFilePath) throws DataLoadingException, IllegalValueException {
+        Optional<JsonSerializableShard> shard = JsonUtil.readJsonFile(shardFilePath, JsonSerializableShard.class);
+        if (shard.isEmpty()) {
+            throw new IllegalValueException(String.format(MESSAGE_MISSING_SHARD, shardFilePath));
+        }
+        List<Long> orderKeys = shard.get().getOrderKeys();
+        List<Person> persons = JsonSerializableAddressBook.toModelPersons(shard.get().getPersons());
+        List<ShardEntry> entries = new ArrayList<>(persons.size());
+        for (int i = 0; i < persons.size(); i++) {
+            entries.add(new ShardEntry(orderKeys.get(i), persons.get(i)));
+        }
+        return entries;
+    }
+
+    /**
+     * Returns the manifest at {@code manifestFilePath}, or null if there is none that can be read.
+     */
+    private static JsonShardManifest readManifestIfValid(Path manifestFilePath) {
+        try {
+            Optional<JsonShardManifest> manifest = JsonUtil.readJsonFile(manifestFilePath, JsonShardManifest.class);
+            if (manifest.isPresent()) {
+                manifest.get().validate();
+            }
+            return manifest.orElse(null);
+        } catch (DataLoadingException | IllegalValueException e) {
+            logger.warning("Ignoring unreadable shard manifest " + manifestFilePath + ": " + e);
+            return null;
+        }
+    }
+
+    /**
+     * Deletes the shard files listed in {@code previousManifest} that {@code manifest} no longer lists.
+     * Files that cannot be deleted are left behind, as they are no longer read.
+     */
+    private static void deleteUnlistedShards(Path manifestFilePath, JsonShardManifest previousManifest,
+            JsonShardManifest manifest) {
+        Set<String> listedShards = new HashSet<>(manifest.getShards());
+        for (String shard : previousManifest.getShards()) {
+            if (listedShards.contains(shard)) {
+                continue;
+            }
+            try {
+                Files.deleteIfExists(manifestFilePath.resolveSibling(shard));
+            } catch (IOException e) {
+                logger.warning("Could not delete replaced shard file " + shard + ": " + e);
+            }
+        }
+    }
+
+    /**
+     * A person in a shard, with the key that places it in the order of the whole address book.
+     * Entries are equal only if they would be stored exactly the same, so that any edit rewrites the shard.
+     */
+    private static class ShardEntry {
+        private final long orderKey;
+        private final Person person;
+
+        ShardEntry(long orderKey, Person person) {
+            this.orderKey = orderKey;
+            this.person = person;
+        }
+
+        long getOrderKey() {
+            return orderKey;
+        }
+
+        Person getPerson() {
+            return person;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof ShardEntry)) {
+                return false;
+            }
+
+            ShardEntry otherEntry = (ShardEntry) other;
+            // persons that were not edited are usually the same instance, which saves converting them
+            return orderKey == otherEntry.orderKey && (person == otherEntry.person
+                    || new JsonAdaptedPerson(person).equals(new JsonAdaptedPerson(otherEntry.person)));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(orderKey, new JsonAdaptedPerson(person));
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package hirehive.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import hirehive.address.commons.core.Durability;
+import hirehive.address.commons.core.LogsCenter;
+import hirehive.address.commons.util.FileUtil;
+import hirehive.address.commons.util.StringUtil;
+
+/**
+ * Decides which saves wait for their data to reach the disk, following a {@code Durability} level.
+ * Under {@link Durability#BATCHED}, the files written by saves that did not wait are made to reach the disk in the
+ * background once the interval is up, so no save goes unsynced for much longer than the interval.
+ */
+class SyncPolicy {
+    /** How long saves go without waiting for the disk under {@link Durability#BATCHED}. */
+    static final long BATCH_INTERVAL_MILLIS = 2000;
+
+    private static final Logger logger = LogsCenter.getLogger(SyncPolicy.class);
+
+    private static final ScheduledExecutorService syncScheduler = Executors.newSingleThreadScheduledExecutor(task -> {
+        Thread thread = new Thread(task, "deferred-sync");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Durability durability;
+    private final long batchIntervalMillis;
+    private long lastSyncMillis;
+    /** Files written without waiting for the disk since the last sync. */
+    private final Set<Path> pendingFiles = new LinkedHashSet<>();
+    private boolean isSyncScheduled;
+
+    SyncPolicy(Durability durability) {
+        this(durability, BATCH_INTERVAL_MILLIS);
+    }
+
+    /**
+     * Creates a policy for {@code durability} that, under {@link Durability#BATCHED}, waits for the disk once every
+     * {@code batchIntervalMillis}.
+     */
+    SyncPolicy(Durability durability, long batchIntervalMillis) {
+        requireNonNull(durability);
+        this.durability = durability;
+        this.batchIntervalMillis = batchIntervalMillis;
+    }
+
+    /**
+     * Returns true if the save about to be made should wait for its data to reach the disk.
+     */
+    synchronized boolean shouldSync() {
+        switch (durability) {
+        case ALWAYS:
+            return true;
+        case NONE:
+            return false;
+        default:
+            long now = System.currentTimeMillis();
+            if (now - lastSyncMillis < batchIntervalMillis) {
+                return false;
+            }
+            lastSyncMillis = now;
+            return true;
+        }
+    }
+
+    /**
+     * Makes a save that writes {@code file}, letting {@code write} know whether to wait for the disk.
+     *
+     * @see #write(List, Write)
+     */
+    void write(Path file, Write write) throws IOException {
+        write(List.of(file), write);
+    }
+
+    /**
+     * Makes a save that writes {@code files}, letting {@code write} know whether to wait for the disk.
+     * Under {@link Durability#BATCHED}, the files are synced in the background at the end of the interval if the
+     * save did not wait.
+     */
+    void write(List<Path> files, Write write) throws IOException {
+        requireNonNull(files);
+        requireNonNull(write);
+        boolean sync = shouldSync();
+        write.write(sync);
+        if (!sync && durability == Durability.BATCHED) {
+            syncLater(files);
+        }
+    }
+
+    /**
+     * Returns true if some files written without waiting for the disk are still to be synced.
+     */
+    synchronized boolean hasPendingSyncs() {
+        return !pendingFiles.isEmpty() || isSyncScheduled;
+    }
+
+    private synchronized void syncLater(List<Path> files) {
+        // added only once written, so that a sync running meanwhile cannot miss data written after it
+        pendingFiles.addAll(files);
+        if (isSyncScheduled) {
+            return;
+        }
+        isSyncScheduled = true;
+        long delayMillis = Math.max(0, lastSyncMillis + batchIntervalMillis - System.currentTimeMillis());
+        syncScheduler.schedule(this::syncPendingFiles, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void syncPendingFiles() {
+        List<Path> files;
+        synchronized (this) {
+            files = List.copyOf(pendingFiles);
+            pendingFiles.clear();
+            lastSyncMillis = System.currentTimeMillis();
+        }
+        for (Path file : files) {
+            try {
+                FileUtil.syncFile(file);
+            } catch (IOException e) {
+                logger.warning("Failed to sync " + file + " to the disk: " + StringUtil.getDetails(e));
+            }
+        }
+        synchronized (this) {
+            isSyncScheduled = false;
+            if (!pendingFiles.isEmpty()) {
+                // files written while this sync ran get the next interval's sync
+                syncLater(List.of());
+            }
+        }
+    }
+
+    /**
+     * Writes the files of a save.
+     */
+    @FunctionalInterface
+    interface Write {
+        /**
+         * Writes the files, waiting for them to reach the disk if {@code sync} is true.
+         */
+        void write(boolean sync) throws IOException;
+    }
+}
@@ -1,9 +1,8 @@
 package hirehive.address.ui;
 
-import hirehive.address.logic.Logic;
-import hirehive.address.logic.commands.CommandResult;
-import hirehive.address.logic.commands.exceptions.CommandException;
-import hirehive.address.logic.parser.exceptions.ParseException;
+import java.util.function.Consumer;
+
+import hirehive.address.logic.AsyncCommandRunner;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.TextField;
@@ -15,9 +14,11 @@ import javafx.scene.layout.Region;
 public class CommandBox extends UiPart<Region> {
 
     public static final String ERROR_STYLE_CLASS = "error";
+    public static final String RUNNING_STYLE_CLASS = "running";
     private static final String FXML = "CommandBox.fxml";
 
     private final CommandExecutor commandExecutor;
+    private int runningCommandCount;
 
     @FXML
     private TextField commandTextField;
@@ -34,6 +35,8 @@ public class CommandBox extends UiPart<Region> {
 
     /**
      * Handles the Enter button pressed event.
+     * The command runs in the background, so the command box can still be typed in while it runs. Once it is done,
+     * the command box is cleared, or marked as failed, unless its text has been changed in the meantime.
      */
     @FXML
     private void handleCommandEntered() {
@@ -42,11 +45,30 @@ public class CommandBox extends UiPart<Region> {
             return;
         }
 
-        try {
-            commandExecutor.execute(commandText);
-            commandTextField.setText("");
-        } catch (CommandException | ParseException e) {
-            setStyleToIndicateCommandFailure();
+        setRunningCommandCount(runningCommandCount + 1);
+        commandExecutor.execute(commandText, isSuccessful -> {
+            setRunningCommandCount(runningCommandCount - 1);
+            if (!commandTextField.getText().equals(commandText)) {
+                return;
+            }
+            if (isSuccessful) {
+                commandTextField.setText("");
+            } else {
+                setStyleToIndicateCommandFailure();
+            }
+        });
+    }
+
+    /**
+     * Shows whether any entered command is still running.
+     */
+    private void setRunningCommandCount(int count) {
+        runningCommandCount = count;
+        ObservableList<String> styleClass = commandTextField.getStyleClass();
+        if (count == 0) {
+            styleClass.remove(RUNNING_STYLE_CLASS);
+        } else if (!styleClass.contains(RUNNING_STYLE_CLASS)) {
+            styleClass.add(RUNNING_STYLE_CLASS);
         }
     }
 
@@ -71,16 +93,17 @@ public class CommandBox extends UiPart<Region> {
     }
 
     /**
-     * Represents a function that can execute commands.
+     * Represents a function that can execute commands in the background.
      */
     @FunctionalInterface
     public interface CommandExecutor {
         /**
-         * Executes the command and returns the result.
+         * Starts executing the command, then calls {@code onDone} on the JavaFX application thread with whether it
+         * succeeded. Commands finish in the order they are started.
          *
-         * @see Logic#execute(String)
+         * @see AsyncCommandRunner#execute(String, Consumer)
          */
-        CommandResult execute(String commandText) throws CommandException, ParseException;
+        void execute(String commandText, Consumer<Boolean> onDone);
     }
 
 }
@@ -5,19 +5,19 @@ import static hirehive.address.logic.Messages.MESSAGE_EMPTY_ADDRESS_BOOK;
 import static hirehive.address.logic.Messages.MESSAGE_LOAD_SUCCESS;
 import static hirehive.address.logic.Messages.MESSAGE_SAMPLE_ADDRESS_BOOK;
 
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import hirehive.address.commons.core.GuiSettings;
 import hirehive.address.commons.core.LogsCenter;
+import hirehive.address.logic.AsyncCommandRunner;
+import hirehive.address.logic.AsyncCommandRunner.Outcome;
 import hirehive.address.logic.Logic;
 import hirehive.address.logic.commands.CommandResult;
-import hirehive.address.logic.commands.ExitCommand;
-import hirehive.address.logic.commands.ListCommand;
-import hirehive.address.logic.commands.exceptions.CommandException;
-import hirehive.address.logic.parser.exceptions.ParseException;
 import hirehive.address.model.AddressBook;
 import hirehive.address.model.ReadOnlyAddressBook;
 import hirehive.address.model.util.SampleDataUtil;
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
@@ -40,6 +40,7 @@ public class MainWindow extends UiPart<Stage> {
 
     private Stage primaryStage;
     private Logic logic;
+    private AsyncCommandRunner commandRunner;
 
     // Independent Ui parts residing in this Ui container
     private PersonListPanel personListPanel;
@@ -66,14 +67,16 @@ public class MainWindow extends UiPart<Stage> {
     private Label contactCountLabel;
 
     /**
-     * Creates a {@code MainWindow} with the given {@code Stage} and {@code Logic}.
+     * Creates a {@code MainWindow} with the given {@code Stage} and {@code Logic}, whose commands are run by
+     * {@code commandRunner}.
      */
-    public MainWindow(Stage primaryStage, Logic logic) {
+    public MainWindow(Stage primaryStage, Logic logic, AsyncCommandRunner commandRunner) {
         super(FXML, primaryStage);
 
         // Set dependencies
         this.primaryStage = primaryStage;
         this.logic = logic;
+        this.commandRunner = commandRunner;
 
         // Configure the UI
         setWindowDefaultSize(logic.getGuiSettings());
@@ -126,13 +129,14 @@ public class MainWindow extends UiPart<Stage> {
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
-        personListPanel = new PersonListPanel(logic.getFilteredPersonList());
+        personListPanel = new PersonListPanel(commandRunner.getDisplayedPersonList());
         personListPanelPlaceholder.getChildren().add(personListPanel.getRoot());
 
         updateContactCount();
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        logic.setOnSaveFailure(message -> Platform.runLater(() -> resultDisplay.setFeedbackToUser(message)));
 
         loadAddressBookMessage();
 
@@ -201,43 +205,49 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Executes the command and returns the result.
+     * Executes the command in the background, then shows its outcome and calls {@code onDone} with whether it
+     * succeeded.
      *
-     * @see Logic#execute(String)
+     * @see AsyncCommandRunner#execute(String, Consumer)
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
-        try {
-            CommandResult commandResult = logic.execute(commandText);
-            logger.info("Result: " + commandResult.getFeedbackToUser());
-            String userFeedback = commandResult.getFeedbackToUser();
-            // if command has edited the applicant book in some way
-            if (commandResult.isChange()) {
-                userFeedback += MESSAGE_DATA_SAVED;
-            }
-            resultDisplay.setFeedbackToUser(userFeedback);
-            noteWindow.setNote(logic);
+    private void executeCommand(String commandText, Consumer<Boolean> onDone) {
+        commandRunner.execute(commandText, outcome -> onDone.accept(showOutcome(commandText, outcome)));
+    }
 
-            updateContactCount();
+    /**
+     * Shows the outcome of a command, and returns whether it succeeded.
+     */
+    private boolean showOutcome(String commandText, Outcome outcome) {
+        updateContactCount();
+        noteWindow.setNote(outcome.getPersonNote());
+        if (outcome.getResult().isEmpty()) {
+            logger.info("An error occurred while executing command: " + commandText);
+            resultDisplay.setFeedbackToUser(outcome.getErrorMessage());
+            return false;
+        }
 
-            if (commandResult.isShowHelp()) {
-                handleHelp();
-            }
+        CommandResult commandResult = outcome.getResult().get();
+        logger.info("Result: " + commandResult.getFeedbackToUser());
+        String userFeedback = commandResult.getFeedbackToUser();
+        // if command has edited the applicant book in some way
+        if (commandResult.isChange()) {
+            userFeedback += MESSAGE_DATA_SAVED;
+        }
+        resultDisplay.setFeedbackToUser(userFeedback);
 
-            if (commandResult.isExit()) {
-                handleExit();
-            }
+        if (commandResult.isShowHelp()) {
+            handleHelp();
+        }
 
-            if (commandResult.isShowNote()) {
-                handleNote();
-            }
+        if (commandResult.isExit()) {
+            handleExit();
+        }
 
-            return commandResult;
-        } catch (CommandException | ParseException e) {
-            logger.info("An error occurred while executing command: " + commandText);
-            resultDisplay.setFeedbackToUser(e.getMessage());
-            updateContactCount();
-            throw e;
+        if (commandResult.isShowNote()) {
+            handleNote();
         }
+
+        return true;
     }
 
     /**
@@ -258,7 +268,7 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     private void updateContactCount() {
-        int count = logic.getFilteredPersonListSize();
+        int count = commandRunner.getDisplayedPersonList().size();
         contactCountLabel.setText("Total contacts displayed: " + count);
     }
 }
@@ -3,7 +3,6 @@ package hirehive.address.ui;
 import java.util.logging.Logger;
 
 import hirehive.address.commons.core.LogsCenter;
-import hirehive.address.logic.Logic;
 import hirehive.address.model.person.Note;
 import javafx.fxml.FXML;
 import javafx.scene.control.Button;
@@ -46,10 +45,9 @@ public class NoteWindow extends UiPart<Stage> {
 
     /**
      * Sets the note in the NoteWindow.
-     * @param logic from the MainWindow.
+     * @param newNote the note of the person last looked up.
      */
-    public void setNote(Logic logic) {
-        Note newNote = logic.getPersonNote();
+    public void setNote(Note newNote) {
         if (newNote.isEmpty()) {
             note.setText(EMPTY_NOTE);
             note.setStyle("-fx-text-fill: yellow;");
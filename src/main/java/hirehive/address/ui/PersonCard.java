@@ -1,8 +1,7 @@
 package hirehive.address.ui;
 
-import java.util.Comparator;
-
 import hirehive.address.model.person.Person;
+import hirehive.address.model.tag.Tag;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
@@ -24,7 +23,9 @@ public class PersonCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Person person;
+    private Person person;
+    private final Label tag = new Label();
+    private Tag shownTag;
 
     @FXML
     private HBox cardPane;
@@ -47,11 +48,31 @@ public class PersonCard extends UiPart<Region> {
     @FXML
     private Label note;
 
+    /**
+     * Creates an empty {@code PersonCard}, to be filled in with {@link #setPerson(Person, int)}.
+     */
+    public PersonCard() {
+        super(FXML);
+        tags.getChildren().add(tag);
+    }
+
     /**
      * Creates a {@code PersonCode} with the given {@code Person} and index to display.
      */
     public PersonCard(Person person, int displayedIndex) {
-        super(FXML);
+        this();
+        setPerson(person, displayedIndex);
+    }
+
+    public Person getPerson() {
+        return person;
+    }
+
+    /**
+     * Shows the given {@code Person} and index in this card, in place of what it showed before.
+     * This is much cheaper than creating a new card, which loads its FXML file again.
+     */
+    public void setPerson(Person person, int displayedIndex) {
         this.person = person;
         id.setText(displayedIndex + ". ");
         name.setText(person.getName().fullName);
@@ -59,10 +80,21 @@ public class PersonCard extends UiPart<Region> {
         address.setText(person.getAddress().value);
         email.setText(person.getEmail().value);
         role.setText(person.getRole().toString());
-        Label tag = new Label(person.getTag().getTagName());
-        tag.getStyleClass().add(person.getTag().getTagName().toLowerCase());
-        tags.getChildren().add(tag);
-        date.setText(person.getDate().toString().isBlank() ? "Date not set" : person.getDate().toString());
+        setTag(person.getTag());
+        String dateText = person.getDate().toString();
+        date.setText(dateText.isBlank() ? "Date not set" : dateText);
         note.setText("Note Contents: " + (person.getNote().isEmpty() ? "Empty" : "Not empty"));
     }
+
+    private void setTag(Tag newTag) {
+        if (newTag == shownTag) {
+            return;
+        }
+        if (shownTag != null) {
+            tag.getStyleClass().remove(shownTag.getTagName().toLowerCase());
+        }
+        tag.setText(newTag.getTagName());
+        tag.getStyleClass().add(newTag.getTagName().toLowerCase());
+        shownTag = newTag;
+    }
 }
@@ -31,8 +31,19 @@ public class PersonListPanel extends UiPart<Region> {
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Person} using a {@code PersonCard}.
+     * Cells are reused as the list scrolls, so each cell creates its card once and refills it for every person.
      */
     class PersonListViewCell extends ListCell<Person> {
+        private PersonCard personCard;
+
+        /**
+         * Treats any other instance as a change, as Person#equals ignores the case of names, which the card shows.
+         */
+        @Override
+        protected boolean isItemChanged(Person oldPerson, Person newPerson) {
+            return oldPerson != newPerson;
+        }
+
         @Override
         protected void updateItem(Person person, boolean empty) {
             super.updateItem(person, empty);
@@ -41,7 +52,11 @@ public class PersonListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new PersonCard(person, getIndex() + 1).getRoot());
+                if (personCard == null) {
+                    personCard = new PersonCard();
+                }
+                personCard.setPerson(person, getIndex() + 1);
+                setGraphic(personCard.getRoot());
             }
         }
     }
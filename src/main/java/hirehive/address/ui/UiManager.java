@@ -5,6 +5,7 @@ import java.util.logging.Logger;
 import hirehive.address.MainApp;
 import hirehive.address.commons.core.LogsCenter;
 import hirehive.address.commons.util.StringUtil;
+import hirehive.address.logic.AsyncCommandRunner;
 import hirehive.address.logic.Logic;
 import javafx.application.Platform;
 import javafx.scene.control.Alert;
@@ -23,13 +24,15 @@ public class UiManager implements Ui {
     private static final String ICON_APPLICATION = "/images/address_book_32.png";
 
     private Logic logic;
+    private AsyncCommandRunner commandRunner;
     private MainWindow mainWindow;
 
     /**
-     * Creates a {@code UiManager} with the given {@code Logic}.
+     * Creates a {@code UiManager} with the given {@code Logic}, whose commands are run by {@code commandRunner}.
      */
-    public UiManager(Logic logic) {
+    public UiManager(Logic logic, AsyncCommandRunner commandRunner) {
         this.logic = logic;
+        this.commandRunner = commandRunner;
     }
 
     @Override
@@ -40,7 +43,7 @@ public class UiManager implements Ui {
         primaryStage.getIcons().add(getImage(ICON_APPLICATION));
 
         try {
-            mainWindow = new MainWindow(primaryStage, logic);
+            mainWindow = new MainWindow(primaryStage, logic, commandRunner);
             mainWindow.show(); //This should be called before creating other UI parts
             mainWindow.fillInnerParts();
 
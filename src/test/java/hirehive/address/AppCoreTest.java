@@ -0,0 +1,105 @@
+package hirehive.address;
+
+import static hirehive.address.testutil.TypicalPersons.ALICE;
+import static hirehive.address.testutil.TypicalPersons.BENSON;
+import static hirehive.address.testutil.TypicalPersons.CARL;
+import static hirehive.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import hirehive.address.commons.core.Config;
+import hirehive.address.commons.core.StorageMode;
+import hirehive.address.commons.util.ConfigUtil;
+import hirehive.address.model.AddressBook;
+import hirehive.address.model.UserPrefs;
+import hirehive.address.storage.BinaryAddressBookStorage;
+import hirehive.address.storage.JournalAddressBookStorage;
+import hirehive.address.storage.JsonAddressBookStorage;
+import hirehive.address.storage.JsonUserPrefsStorage;
+
+public class AppCoreTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path configFilePath;
+    private Path userPrefsFilePath;
+    private Path addressBookFilePath;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        configFilePath = testFolder.resolve("config.json");
+        userPrefsFilePath = testFolder.resolve("preferences.json");
+        addressBookFilePath = testFolder.resolve("addressbook.json");
+
+        Config config = new Config();
+        config.setUserPrefsFilePath(userPrefsFilePath);
+        ConfigUtil.saveConfig(config, configFilePath);
+        new JsonAddressBookStorage(addressBookFilePath).saveAddressBook(getTypicalAddressBook());
+    }
+
+    @Test
+    public void constructor_storageModeChangedAndBack_changesKept() throws Exception {
+        AppCore core = start(StorageMode.BINARY);
+        core.getLogic().execute("delete n/" + ALICE.getName().fullName);
+        core.stop();
+        assertFalse(Files.exists(addressBookFilePath));
+
+        core = start(StorageMode.SHARDED);
+        core.getLogic().execute("delete n/" + BENSON.getName().fullName);
+        core.stop();
+
+        core = start(StorageMode.JSON);
+        AddressBook expectedAddressBook = getTypicalAddressBook();
+        expectedAddressBook.removePerson(ALICE);
+        expectedAddressBook.removePerson(BENSON);
+        assertEquals(expectedAddressBook, core.getLogic().getAddressBook());
+        core.stop();
+
+        // the data of the modes switched away from is kept aside, not read again
+        assertTrue(Files.exists(testFolder.resolve("addressbook.json" + AppCore.MIGRATED_FILE_SUFFIX)));
+        assertFalse(Files.exists(BinaryAddressBookStorage.getBinaryFilePath(addressBookFilePath)));
+    }
+
+    @Test
+    public void constructor_journalModeChangedAndBack_changesKept() throws Exception {
+        // the deletion stays in the journal, as it is far from the compaction threshold
+        AppCore core = start(StorageMode.JOURNAL);
+        core.getLogic().execute("delete n/" + ALICE.getName().fullName);
+        core.stop();
+
+        core = start(StorageMode.JSON);
+        core.getLogic().execute("delete n/" + BENSON.getName().fullName);
+        core.stop();
+        Path snapshotFilePath = JournalAddressBookStorage.getSnapshotFilePath(addressBookFilePath);
+        assertFalse(Files.exists(JournalAddressBookStorage.getJournalFilePath(snapshotFilePath)));
+
+        core = start(StorageMode.JOURNAL);
+        core.getLogic().execute("delete n/" + CARL.getName().fullName);
+        core.stop();
+
+        core = start(StorageMode.JOURNAL);
+        AddressBook expectedAddressBook = getTypicalAddressBook();
+        expectedAddressBook.removePerson(ALICE);
+        expectedAddressBook.removePerson(BENSON);
+        expectedAddressBook.removePerson(CARL);
+        assertEquals(expectedAddressBook, core.getLogic().getAddressBook());
+        core.stop();
+    }
+
+    private AppCore start(StorageMode storageMode) throws Exception {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAddressBookFilePath(addressBookFilePath);
+        userPrefs.setStorageMode(storageMode);
+        new JsonUserPrefsStorage(userPrefsFilePath).saveUserPrefs(userPrefs);
+        return new AppCore(configFilePath);
+    }
+}
@@ -39,10 +39,51 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_noArguments_guiMode() {
+        assertEquals(expected, AppParameters.parse(new String[0]));
+    }
+
+    @Test
+    public void parse_headlessFlagAndConfigPath_success() {
+        expected.setConfigPath(Paths.get("config.json"));
+        expected.setHeadless(true);
+        assertEquals(expected, AppParameters.parse("--config=config.json", AppParameters.HEADLESS_FLAG));
+    }
+
+    @Test
+    public void parse_scriptPath_headlessMode() {
+        expected.setScriptPath(Paths.get("script.txt"));
+        expected.setHeadless(true);
+        assertEquals(expected, AppParameters.parse("--script=script.txt"));
+    }
+
+    @Test
+    public void parse_invalidScriptPath_headlessMode() {
+        expected.setInvalidScriptPath("a\0");
+        expected.setHeadless(true);
+        assertEquals(expected, AppParameters.parse("--script=a\0"));
+    }
+
+    @Test
+    public void parse_atomicScript_success() {
+        expected.setScriptPath(Paths.get("script.txt"));
+        expected.setHeadless(true);
+        expected.setAtomic(true);
+        assertEquals(expected, AppParameters.parse("--script=script.txt", AppParameters.ATOMIC_FLAG));
+    }
+
+    @Test
+    public void parse_unknownArguments_ignored() {
+        assertEquals(expected, AppParameters.parse("headless", "--", "--=value", "--unknown=value"));
+    }
+
     @Test
     public void toStringMethod() {
         AppParameters appParameters = new AppParameters();
-        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath() + "}";
+        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath()
+                + ", isHeadless=" + appParameters.isHeadless() + ", scriptPath=" + appParameters.getScriptPath()
+                + ", invalidScriptPath=" + appParameters.getInvalidScriptPath() + ", isAtomic=" + appParameters.isAtomic() + "}";
         assertEquals(expected, appParameters.toString());
     }
 
@@ -66,6 +107,26 @@ public class AppParametersTest {
         AppParameters otherAppParameters = new AppParameters();
         otherAppParameters.setConfigPath(Paths.get("configPath"));
         assertFalse(appParameters.equals(otherAppParameters));
+
+        // different mode -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setHeadless(true);
+        assertFalse(appParameters.equals(otherAppParameters));
+
+        // different script path -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setScriptPath(Paths.get("script.txt"));
+        assertFalse(appParameters.equals(otherAppParameters));
+
+        // different invalid script path -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setInvalidScriptPath("a\0");
+        assertFalse(appParameters.equals(otherAppParameters));
+
+        // different script mode -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setAtomic(true);
+        assertFalse(appParameters.equals(otherAppParameters));
     }
 
     private static class ParametersStub extends Application.Parameters {
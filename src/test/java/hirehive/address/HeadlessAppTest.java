@@ -0,0 +1,106 @@
+package hirehive.address;
+
+import static hirehive.address.testutil.TypicalPersons.ALICE;
+import static hirehive.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import hirehive.address.commons.util.FileUtil;
+import hirehive.address.logic.LogicManager;
+import hirehive.address.logic.Messages;
+import hirehive.address.logic.commands.ExitCommand;
+import hirehive.address.logic.commands.ListCommand;
+import hirehive.address.logic.commands.RunCommand;
+import hirehive.address.model.Model;
+import hirehive.address.model.ModelManager;
+import hirehive.address.model.UserPrefs;
+import hirehive.address.storage.JsonAddressBookStorage;
+import hirehive.address.storage.JsonUserPrefsStorage;
+import hirehive.address.storage.StorageManager;
+
+public class HeadlessAppTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private HeadlessApp app;
+
+    @BeforeEach
+    public void setUp() {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        LogicManager logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage));
+        app = new HeadlessApp(logic, new PrintStream(output, true, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void execute_commandsAndComments_printsResults() throws Exception {
+        int failedCount = execute(false,
+                "# comments and blank lines are skipped",
+                "",
+                "delete n/" + ALICE.getName().fullName,
+                "delete n/none",
+                ListCommand.COMMAND_WORD);
+
+        assertEquals(1, failedCount);
+        assertFalse(model.hasPerson(ALICE));
+        String[] lines = getOutput().split(System.lineSeparator());
+        assertEquals(Messages.MESSAGE_NO_SUCH_PERSON, lines[lines.length - 2]);
+        assertEquals(ListCommand.MESSAGE_SUCCESS, lines[lines.length - 1]);
+    }
+
+    @Test
+    public void execute_scriptWithFailedLines_countedAsFailed() throws Exception {
+        Path scriptPath = temporaryFolder.resolve("script.txt");
+        FileUtil.writeToFile(scriptPath, "delete n/" + ALICE.getName().fullName + "\ndelete n/none");
+
+        int failedCount = execute(false, RunCommand.COMMAND_WORD + " " + scriptPath);
+
+        assertEquals(1, failedCount);
+        assertFalse(model.hasPerson(ALICE));
+    }
+
+    @Test
+    public void execute_exitCommand_stopsExecuting() throws Exception {
+        int failedCount = execute(false, ExitCommand.COMMAND_WORD, "delete n/" + ALICE.getName().fullName);
+
+        assertEquals(0, failedCount);
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+    }
+
+    @Test
+    public void execute_showsPrompt_promptsForEachCommand() throws Exception {
+        execute(true, ListCommand.COMMAND_WORD);
+
+        assertEquals(HeadlessApp.PROMPT + ListCommand.MESSAGE_SUCCESS + System.lineSeparator() + HeadlessApp.PROMPT,
+                getOutput());
+    }
+
+    @Test
+    public void run_invalidScriptPath_failureStatus() {
+        assertEquals(1, HeadlessApp.run(AppParameters.parse("--script=a\0")));
+    }
+
+    private int execute(boolean showsPrompt, String... commands) throws Exception {
+        String script = String.join("\n", commands);
+        return app.execute(new BufferedReader(new StringReader(script)), showsPrompt);
+    }
+
+    private String getOutput() {
+        return output.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -1,15 +1,24 @@
 package hirehive.address.commons.util;
 
 import static hirehive.address.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import hirehive.address.testutil.Assert;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -22,4 +31,47 @@ public class FileUtilTest {
         Assert.assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFileAtomically_existingFile_replacesContent() throws Exception {
+        Path file = testFolder.resolve("missing").resolve("file.txt");
+        FileUtil.writeToFileAtomically(file, "old", true);
+        FileUtil.writeToFileAtomically(file, "new", false);
+
+        assertEquals("new", FileUtil.readFromFile(file));
+        assertFalse(Files.exists(FileUtil.getTempFile(file)));
+    }
+
+    @Test
+    public void writeToFileAtomically_cannotReplace_keepsOldContent() throws Exception {
+        // a non-empty directory cannot be replaced by a file
+        Path directory = testFolder.resolve("directory");
+        FileUtil.writeToFileAtomically(directory.resolve("file.txt"), "old", true);
+
+        assertThrows(IOException.class, () -> FileUtil.writeToFileAtomically(directory, "new", true));
+        assertEquals("old", FileUtil.readFromFile(directory.resolve("file.txt")));
+        assertFalse(Files.exists(FileUtil.getTempFile(directory)));
+    }
+
+    @Test
+    public void writeToFileAtomically_writerThrowsUnchecked_deletesTempFile() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFileAtomically(file, "old", true);
+
+        assertThrows(ArithmeticException.class, () -> FileUtil.writeToFileAtomically(file, out -> {
+            out.write(1);
+            throw new ArithmeticException();
+        }, true));
+        assertEquals("old", FileUtil.readFromFile(file));
+        assertFalse(Files.exists(FileUtil.getTempFile(file)));
+    }
+
+    @Test
+    public void appendToFile_existingFile_appendsContent() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.appendToFile(file, "first\n");
+        FileUtil.appendToFile(file, "second\n", true);
+
+        assertEquals("first\nsecond\n", FileUtil.readFromFile(file));
+    }
+
 }
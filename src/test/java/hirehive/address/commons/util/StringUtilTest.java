@@ -1,6 +1,7 @@
 package hirehive.address.commons.util;
 
 import static hirehive.address.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -9,6 +10,7 @@ import java.io.FileNotFoundException;
 import org.junit.jupiter.api.Test;
 
 import hirehive.address.testutil.Assert;
+import hirehive.address.testutil.FuzzedStrings;
 
 public class StringUtilTest {
 
@@ -172,4 +174,21 @@ public class StringUtilTest {
         Assert.assertThrows(NullPointerException.class, () -> StringUtil.getDetails(null));
     }
 
+    @Test
+    public void isValidStringOrInteger_fuzzedInputs_sameAsRegex() {
+        for (String test : FuzzedStrings.generate(20000, "0", "-12", "2147483647", "-2147483648", "99999999999")) {
+            boolean isIntegerByRegex = test.matches("-?\\d+");
+            boolean expected = !isIntegerByRegex || isIntRange(test);
+            assertEquals(expected, StringUtil.isValidStringOrInteger(test), test);
+        }
+    }
+
+    private static boolean isIntRange(String integer) {
+        try {
+            long value = Long.parseLong(integer);
+            return value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
 }
@@ -0,0 +1,97 @@
+package hirehive.address.logic;
+
+import static hirehive.address.testutil.TypicalPersons.ALICE;
+import static hirehive.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import hirehive.address.logic.AsyncCommandRunner.Outcome;
+import hirehive.address.logic.commands.ListCommand;
+import hirehive.address.model.Model;
+import hirehive.address.model.ModelManager;
+import hirehive.address.model.UserPrefs;
+import hirehive.address.storage.JsonAddressBookStorage;
+import hirehive.address.storage.JsonUserPrefsStorage;
+import hirehive.address.storage.StorageManager;
+
+public class AsyncCommandRunnerTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final List<Runnable> publishedTasks = Collections.synchronizedList(new ArrayList<>());
+    private final List<Outcome> outcomes = new ArrayList<>();
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private AsyncCommandRunner runner;
+
+    @BeforeEach
+    public void setUp() {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        Logic logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage));
+        runner = new AsyncCommandRunner(logic, publishedTasks::add);
+    }
+
+    @Test
+    public void execute_validCommand_displayedPersonsUpdatedWhenPublished() {
+        runner.execute("delete n/" + ALICE.getName().fullName, outcomes::add);
+        runner.close();
+
+        assertEquals(1, publishedTasks.size());
+        assertTrue(runner.getDisplayedPersonList().contains(ALICE));
+
+        publishedTasks.get(0).run();
+        assertFalse(runner.getDisplayedPersonList().contains(ALICE));
+        assertEquals(model.getFilteredPersonList(), runner.getDisplayedPersonList());
+        assertTrue(outcomes.get(0).getResult().isPresent());
+        assertNull(outcomes.get(0).getErrorMessage());
+    }
+
+    @Test
+    public void execute_caseOnlyRename_displayedPersonsUpdated() {
+        String renamedName = ALICE.getName().fullName.toUpperCase();
+        runner.execute("edit 1 n/" + renamedName, outcomes::add);
+        runner.close();
+        publishedTasks.forEach(Runnable::run);
+
+        assertEquals(renamedName, runner.getDisplayedPersonList().get(0).getName().fullName);
+    }
+
+    @Test
+    public void execute_invalidCommand_errorMessagePublished() {
+        runner.execute("delete n/none", outcomes::add);
+        runner.close();
+        publishedTasks.forEach(Runnable::run);
+
+        assertEquals(1, outcomes.size());
+        assertFalse(outcomes.get(0).getResult().isPresent());
+        assertEquals(Messages.MESSAGE_NO_SUCH_PERSON, outcomes.get(0).getErrorMessage());
+        assertEquals(model.getFilteredPersonList(), runner.getDisplayedPersonList());
+    }
+
+    @Test
+    public void execute_severalCommands_outcomesPublishedInOrder() {
+        runner.execute("delete n/none", outcomes::add);
+        runner.execute(ListCommand.COMMAND_WORD, outcomes::add);
+        runner.execute("uicfhmowqewca", outcomes::add);
+        runner.close();
+        publishedTasks.forEach(Runnable::run);
+
+        assertEquals(3, outcomes.size());
+        assertFalse(outcomes.get(0).getResult().isPresent());
+        assertEquals(ListCommand.MESSAGE_SUCCESS, outcomes.get(1).getResult().get().getFeedbackToUser());
+        assertEquals(Messages.MESSAGE_UNKNOWN_COMMAND, outcomes.get(2).getErrorMessage());
+    }
+}
@@ -7,6 +7,8 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -24,6 +26,7 @@ import hirehive.address.model.ReadOnlyAddressBook;
 import hirehive.address.model.UserPrefs;
 import hirehive.address.model.person.Note;
 import hirehive.address.model.person.Person;
+import hirehive.address.storage.AsyncAddressBookSaver;
 import hirehive.address.storage.JsonAddressBookStorage;
 import hirehive.address.storage.JsonUserPrefsStorage;
 import hirehive.address.storage.StorageManager;
@@ -80,6 +83,32 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_readOnlyCommand_doesNotSave() throws Exception {
+        logic = new LogicManager(model, createStorageThrowing(DUMMY_IO_EXCEPTION));
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS, model);
+    }
+
+    @Test
+    public void execute_backgroundSaveThrowsIoException_reportsFailureAfterReturning() throws Exception {
+        StorageManager storage = createStorageThrowing(DUMMY_IO_EXCEPTION);
+        AsyncAddressBookSaver saver = new AsyncAddressBookSaver(storage);
+        logic = new LogicManager(model, storage, saver);
+        List<String> reportedMessages = new ArrayList<>();
+        logic.setOnSaveFailure(reportedMessages::add);
+
+        String addCommand = AddCommand.COMMAND_WORD + CommandTestUtil.NAME_DESC_BOB + CommandTestUtil.PHONE_DESC_BOB
+                + CommandTestUtil.EMAIL_DESC_BOB + CommandTestUtil.ADDRESS_DESC_BOB + CommandTestUtil.ROLE_DESC_BOB;
+        Person expectedPerson = new PersonBuilder(TypicalPersons.BOB).build();
+        CommandResult result = logic.execute(addCommand);
+        assertEquals(String.format(AddCommand.MESSAGE_SUCCESS, Messages.format(expectedPerson)),
+                result.getFeedbackToUser());
+
+        assertThrows(IOException.class, saver::flush);
+        assertEquals(List.of(String.format(LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage())),
+                reportedMessages);
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         Assert.assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -162,9 +191,23 @@ public class LogicManagerTest {
      * @param expectedMessage the message expected inside exception thrown by the Logic component
      */
     private void assertCommandFailureForExceptionFromStorage(IOException e, String expectedMessage) {
+        logic = new LogicManager(model, createStorageThrowing(e));
+
+        // Triggers the saveAddressBook method by executing an add command
+        String addCommand = AddCommand.COMMAND_WORD + CommandTestUtil.NAME_DESC_BOB + CommandTestUtil.PHONE_DESC_BOB
+                + CommandTestUtil.EMAIL_DESC_BOB + CommandTestUtil.ADDRESS_DESC_BOB + CommandTestUtil.ROLE_DESC_BOB;
+        Person expectedPerson = new PersonBuilder(TypicalPersons.BOB).build();
+        ModelManager expectedModel = new ModelManager();
+        expectedModel.addPerson(expectedPerson);
+        assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
+    }
+
+    /**
+     * Returns a storage whose AddressBookStorage throws the IOException {@code e} when saving.
+     */
+    private StorageManager createStorageThrowing(IOException e) {
         Path prefPath = temporaryFolder.resolve("ExceptionUserPrefs.json");
 
-        // Inject LogicManager with an AddressBookStorage that throws the IOException e when saving
         JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(prefPath) {
             @Override
             public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath)
@@ -175,16 +218,6 @@ public class LogicManagerTest {
 
         JsonUserPrefsStorage userPrefsStorage =
                 new JsonUserPrefsStorage(temporaryFolder.resolve("ExceptionUserPrefs.json"));
-        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
-
-        logic = new LogicManager(model, storage);
-
-        // Triggers the saveAddressBook method by executing an add command
-        String addCommand = AddCommand.COMMAND_WORD + CommandTestUtil.NAME_DESC_BOB + CommandTestUtil.PHONE_DESC_BOB
-                + CommandTestUtil.EMAIL_DESC_BOB + CommandTestUtil.ADDRESS_DESC_BOB + CommandTestUtil.ROLE_DESC_BOB;
-        Person expectedPerson = new PersonBuilder(TypicalPersons.BOB).build();
-        ModelManager expectedModel = new ModelManager();
-        expectedModel.addPerson(expectedPerson);
-        assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
+        return new StorageManager(addressBookStorage, userPrefsStorage);
     }
 }
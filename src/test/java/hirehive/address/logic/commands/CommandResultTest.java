@@ -37,6 +37,9 @@ public class CommandResultTest {
 
         // different exit value -> returns false
         assertFalse(commandResult.equals(new CommandResult("feedback", false, true, false, false)));
+
+        // different hasFailures value -> returns false
+        assertFalse(commandResult.equals(new CommandResult("feedback", false, true)));
     }
 
     @Test
@@ -65,7 +68,7 @@ public class CommandResultTest {
         String expected = CommandResult.class.getCanonicalName() + "{feedbackToUser="
                 + commandResult.getFeedbackToUser() + ", showHelp=" + commandResult.isShowHelp()
                 + ", exit=" + commandResult.isExit() + ", showNote=" + commandResult.isShowNote()
-                + ", isChange=" + commandResult.isChange() + "}";
+                + ", isChange=" + commandResult.isChange() + ", hasFailures=" + commandResult.hasFailures() + "}";
         assertEquals(expected, commandResult.toString());
     }
 
@@ -89,4 +92,10 @@ public class CommandResultTest {
         assertTrue(commandResult2.isChange());
     }
 
+    @Test
+    public void hasFailures() {
+        assertFalse(new CommandResult("feedback", true).hasFailures());
+        assertTrue(new CommandResult("feedback", false, true).hasFailures());
+    }
+
 }
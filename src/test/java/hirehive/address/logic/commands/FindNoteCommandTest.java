@@ -0,0 +1,102 @@
+package hirehive.address.logic.commands;
+
+import static hirehive.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import hirehive.address.logic.Messages;
+import hirehive.address.model.Model;
+import hirehive.address.model.ModelManager;
+import hirehive.address.model.UserPrefs;
+import hirehive.address.model.person.NoteContainsKeywordsPredicate;
+import hirehive.address.model.person.Person;
+import hirehive.address.testutil.PersonBuilder;
+import hirehive.address.testutil.TypicalPersons;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code FindNoteCommand}.
+ */
+public class FindNoteCommandTest {
+    private Model model = new ModelManager(TypicalPersons.getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(TypicalPersons.getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        NoteContainsKeywordsPredicate firstPredicate = new NoteContainsKeywordsPredicate("first");
+        NoteContainsKeywordsPredicate secondPredicate = new NoteContainsKeywordsPredicate("second");
+
+        FindNoteCommand findNoteFirstCommand = new FindNoteCommand(firstPredicate);
+        FindNoteCommand findNoteSecondCommand = new FindNoteCommand(secondPredicate);
+
+        // same object -> returns true
+        assertTrue(findNoteFirstCommand.equals(findNoteFirstCommand));
+
+        // same values -> returns true
+        FindNoteCommand findNoteFirstCommandCopy = new FindNoteCommand(firstPredicate);
+        assertTrue(findNoteFirstCommand.equals(findNoteFirstCommandCopy));
+
+        // different types -> returns false
+        assertFalse(findNoteFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(findNoteFirstCommand.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(findNoteFirstCommand.equals(findNoteSecondCommand));
+    }
+
+    @Test
+    public void execute_noMatchingNotes_noPersonFound() {
+        String expectedMessage = Messages.MESSAGE_NO_SUCH_PERSON;
+        NoteContainsKeywordsPredicate predicate = new NoteContainsKeywordsPredicate("kubernetes");
+        FindNoteCommand command = new FindNoteCommand(predicate);
+        expectedModel.updateFilteredPersonList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Collections.emptyList(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_multipleKeywords_bestMatchesFirst() {
+        Person relocatingAlice = new PersonBuilder(TypicalPersons.ALICE).withNote("Open to relocation").build();
+        Person kubernetesCarl = new PersonBuilder(TypicalPersons.CARL)
+                .withNote("Kubernetes expert, open to relocation. Ran kubernetes at scale").build();
+        Person kubernetesDaniel = new PersonBuilder(TypicalPersons.DANIEL).withNote("Knows kubernetes").build();
+        for (Model m : Arrays.asList(model, expectedModel)) {
+            m.setPerson(TypicalPersons.ALICE, relocatingAlice);
+            m.setPerson(TypicalPersons.CARL, kubernetesCarl);
+            m.setPerson(TypicalPersons.DANIEL, kubernetesDaniel);
+        }
+
+        NoteContainsKeywordsPredicate predicate = new NoteContainsKeywordsPredicate("Kubernetes relocation");
+        String expectedMessage = String.format(Messages.MESSAGE_FILTER_OVERVIEW_NOTE, "kubernetes relocation");
+        FindNoteCommand command = new FindNoteCommand(predicate);
+        expectedModel.updateFilteredPersonList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(kubernetesCarl, relocatingAlice, kubernetesDaniel),
+                model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_noteEdited_indexFollowsNote() {
+        Person shyBenson = new PersonBuilder(TypicalPersons.BENSON).withNote("Shy").build();
+        model.setPerson(TypicalPersons.BENSON, shyBenson);
+        model.setPerson(TypicalPersons.ALICE, new PersonBuilder(TypicalPersons.ALICE).withNote("Confident").build());
+
+        CommandUtil.executeFilter(model, new NoteContainsKeywordsPredicate("shy"));
+        assertEquals(Collections.singletonList(shyBenson), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void toStringMethod() {
+        NoteContainsKeywordsPredicate predicate = new NoteContainsKeywordsPredicate("keyword");
+        FindNoteCommand findNoteCommand = new FindNoteCommand(predicate);
+        String expected = FindNoteCommand.class.getCanonicalName() + "{predicate=" + predicate + "}";
+        assertEquals(expected, findNoteCommand.toString());
+    }
+}
@@ -0,0 +1,163 @@
+package hirehive.address.logic.commands;
+
+import static hirehive.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static hirehive.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static hirehive.address.testutil.TypicalPersons.ALICE;
+import static hirehive.address.testutil.TypicalPersons.BENSON;
+import static hirehive.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import hirehive.address.commons.util.FileUtil;
+import hirehive.address.logic.Messages;
+import hirehive.address.model.Model;
+import hirehive.address.model.ModelManager;
+import hirehive.address.model.UserPrefs;
+
+public class RunCommandTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_someCommandsFail_appliesTheRest() throws Exception {
+        Path scriptPath = writeScript(
+                "# rejected applicants",
+                "delete n/" + ALICE.getName().fullName,
+                "",
+                "delete n/" + BENSON.getName().fullName,
+                "delete n/none");
+
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel.deletePerson(ALICE);
+        expectedModel.deletePerson(BENSON);
+        expectedModel.unfilterPersonList();
+        String expectedMessage = String.format(RunCommand.MESSAGE_SUCCESS, 3, scriptPath, 2, 1) + "\n"
+                + String.format(RunCommand.MESSAGE_LINE_FAILURE, 5, Messages.MESSAGE_NO_SUCH_PERSON);
+
+        assertCommandSuccess(new RunCommand(scriptPath, false), model,
+                new CommandResult(expectedMessage, true, true), expectedModel);
+    }
+
+    @Test
+    public void execute_atomicAndSomeCommandsFail_noChanges() throws Exception {
+        Path scriptPath = writeScript("delete n/" + ALICE.getName().fullName, "delete n/none");
+
+        String expectedMessage = String.format(RunCommand.MESSAGE_ATOMIC_FAILURE, 1, 2, scriptPath) + "\n"
+                + String.format(RunCommand.MESSAGE_LINE_FAILURE, 2, Messages.MESSAGE_NO_SUCH_PERSON);
+        assertCommandFailure(new RunCommand(scriptPath, true), model, expectedMessage);
+        assertTrue(model.hasPerson(ALICE));
+    }
+
+    @Test
+    public void execute_atomicAndAllCommandsSucceed_appliesAll() throws Exception {
+        Path scriptPath = writeScript("delete n/" + ALICE.getName().fullName, "delete n/" + BENSON.getName().fullName);
+        long version = model.getAddressBook().getVersion();
+
+        CommandResult result = new RunCommand(scriptPath, true).execute(model);
+
+        assertTrue(result.isChange());
+        assertFalse(model.hasPerson(ALICE));
+        assertFalse(model.hasPerson(BENSON));
+        // the changes are recorded, so that they can be saved without rewriting the whole address book
+        assertEquals(2, model.getAddressBook().getChangesSince(version).get().size());
+    }
+
+    @Test
+    public void execute_noChanges_notAChange() throws Exception {
+        Path scriptPath = writeScript(ListCommand.COMMAND_WORD);
+        long version = model.getAddressBook().getVersion();
+
+        assertFalse(new RunCommand(scriptPath, false).execute(model).isChange());
+        assertEquals(version, model.getAddressBook().getVersion());
+    }
+
+    @Test
+    public void execute_nestedRun_fails() throws Exception {
+        Path scriptPath = writeScript(RunCommand.COMMAND_WORD + " other.txt");
+
+        String expectedMessage = String.format(RunCommand.MESSAGE_SUCCESS, 1, scriptPath, 0, 1) + "\n"
+                + String.format(RunCommand.MESSAGE_LINE_FAILURE, 1, RunCommand.MESSAGE_NESTED_RUN);
+        assertEquals(expectedMessage, new RunCommand(scriptPath, false).execute(model).getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_exitLine_stopsScript() throws Exception {
+        Path scriptPath = writeScript("delete n/" + ALICE.getName().fullName, ExitCommand.COMMAND_WORD,
+                "delete n/" + BENSON.getName().fullName);
+
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel.deletePerson(ALICE);
+        expectedModel.unfilterPersonList();
+        String expectedMessage = String.format(RunCommand.MESSAGE_SUCCESS, 2, scriptPath, 2, 0);
+
+        assertCommandSuccess(new RunCommand(scriptPath, false), model,
+                new CommandResult(expectedMessage, true, false), expectedModel);
+    }
+
+    @Test
+    public void execute_windowOnlyCommand_fails() throws Exception {
+        Path scriptPath = writeScript(HelpCommand.COMMAND_WORD);
+
+        String expectedMessage = String.format(RunCommand.MESSAGE_SUCCESS, 1, scriptPath, 0, 1) + "\n"
+                + String.format(RunCommand.MESSAGE_LINE_FAILURE, 1, RunCommand.MESSAGE_UNSUPPORTED_WINDOW);
+        assertEquals(expectedMessage, new RunCommand(scriptPath, false).execute(model).getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_manyFailures_listsOnlySome() throws Exception {
+        int failureCount = RunCommand.MAX_LISTED_FAILURES + 5;
+        Path scriptPath = writeScript(Collections.nCopies(failureCount, "delete n/none").toArray(new String[0]));
+
+        String feedback = new RunCommand(scriptPath, false).execute(model).getFeedbackToUser();
+        String[] lines = feedback.split("\n");
+        assertEquals(1 + RunCommand.MAX_LISTED_FAILURES + 1, lines.length);
+        assertEquals(String.format(RunCommand.MESSAGE_MORE_FAILURES, 5), lines[lines.length - 1]);
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path scriptPath = temporaryFolder.resolve("missing.txt");
+        assertCommandFailure(new RunCommand(scriptPath, false), model,
+                String.format(RunCommand.MESSAGE_READ_FAILURE, scriptPath, scriptPath));
+    }
+
+    @Test
+    public void equals() {
+        Path scriptPath = temporaryFolder.resolve("script.txt");
+        RunCommand runCommand = new RunCommand(scriptPath, false);
+
+        // same values -> returns true
+        assertTrue(runCommand.equals(new RunCommand(scriptPath, false)));
+
+        // same object -> returns true
+        assertTrue(runCommand.equals(runCommand));
+
+        // null -> returns false
+        assertFalse(runCommand.equals(null));
+
+        // different types -> returns false
+        assertFalse(runCommand.equals(1));
+
+        // different file -> returns false
+        assertFalse(runCommand.equals(new RunCommand(temporaryFolder.resolve("other.txt"), false)));
+
+        // different mode -> returns false
+        assertFalse(runCommand.equals(new RunCommand(scriptPath, true)));
+    }
+
+    private Path writeScript(String... lines) throws Exception {
+        Path scriptPath = temporaryFolder.resolve("script.txt");
+        FileUtil.writeToFile(scriptPath, String.join("\n", lines));
+        return scriptPath;
+    }
+}
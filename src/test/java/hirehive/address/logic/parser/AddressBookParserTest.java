@@ -3,6 +3,8 @@ package hirehive.address.logic.parser;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.nio.file.Paths;
+
 import org.junit.jupiter.api.Test;
 
 import hirehive.address.logic.Messages;
@@ -15,16 +17,19 @@ import hirehive.address.logic.commands.ExitCommand;
 import hirehive.address.logic.commands.FilterCommand;
 import hirehive.address.logic.commands.FilterOutCommand;
 import hirehive.address.logic.commands.FindCommand;
+import hirehive.address.logic.commands.FindNoteCommand;
 import hirehive.address.logic.commands.HelpCommand;
 import hirehive.address.logic.commands.ListCommand;
 import hirehive.address.logic.commands.NewNoteCommand;
 import hirehive.address.logic.commands.ReminderCommand;
+import hirehive.address.logic.commands.RunCommand;
 import hirehive.address.logic.commands.ScheduleCommand;
 import hirehive.address.logic.commands.queries.NameQuery;
 import hirehive.address.logic.parser.exceptions.ParseException;
 import hirehive.address.model.person.InterviewDate;
 import hirehive.address.model.person.NameContainsKeywordsPredicate;
 import hirehive.address.model.person.Note;
+import hirehive.address.model.person.NoteContainsKeywordsPredicate;
 import hirehive.address.model.person.Person;
 import hirehive.address.model.person.PersonContainsTagPredicate;
 import hirehive.address.model.person.PersonDoesNotContainTagPredicate;
@@ -92,6 +97,14 @@ public class AddressBookParserTest {
         assertEquals(new FindCommand(new NameContainsKeywordsPredicate(keywords)), command);
     }
 
+    @Test
+    public void parseCommand_findNote() throws Exception {
+        String keywords = "kubernetes relocation";
+        FindNoteCommand command = (FindNoteCommand) parser.parseCommand(
+                FindNoteCommand.COMMAND_WORD + " " + keywords);
+        assertEquals(new FindNoteCommand(new NoteContainsKeywordsPredicate(keywords)), command);
+    }
+
     @Test
     public void parseCommand_filter() throws Exception {
         String tag = "Applicant";
@@ -163,6 +176,12 @@ public class AddressBookParserTest {
         assertEquals(new FilterOutCommand(new PersonDoesNotContainTagPredicate(ParserUtil.parseTag(tag))), command);
     }
 
+    @Test
+    public void parseCommand_run() throws Exception {
+        RunCommand command = (RunCommand) parser.parseCommand(RunCommand.COMMAND_WORD + " script.txt");
+        assertEquals(new RunCommand(Paths.get("script.txt"), false), command);
+    }
+
     @Test
     public void parseCommand_unrecognisedInput_throwsParseException() {
         Assert.assertThrows(ParseException.class, String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE), ()
@@ -0,0 +1,36 @@
+package hirehive.address.logic.parser;
+
+import org.junit.jupiter.api.Test;
+
+import hirehive.address.logic.Messages;
+import hirehive.address.logic.commands.FindNoteCommand;
+import hirehive.address.model.person.NoteContainsKeywordsPredicate;
+
+public class FindNoteCommandParserTest {
+
+    private FindNoteCommandParser parser = new FindNoteCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        CommandParserTestUtil.assertParseFailure(parser, "     ",
+                String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, FindNoteCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_noWords_throwsParseException() {
+        CommandParserTestUtil.assertParseFailure(parser, " ?! -- ",
+                String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, FindNoteCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_validArgs_returnsFindNoteCommand() {
+        // no leading and trailing whitespaces
+        FindNoteCommand expectedFindNoteCommand =
+                new FindNoteCommand(new NoteContainsKeywordsPredicate("kubernetes relocation"));
+        CommandParserTestUtil.assertParseSuccess(parser, "kubernetes relocation", expectedFindNoteCommand);
+
+        // with leading and trailing whitespaces, punctuation and mixed case
+        CommandParserTestUtil.assertParseSuccess(parser, " \n Kubernetes, RELOCATION  \t", expectedFindNoteCommand);
+    }
+
+}
@@ -0,0 +1,42 @@
+package hirehive.address.logic.parser;
+
+import static hirehive.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static hirehive.address.logic.parser.CliSyntax.PREFIX_ATOMIC;
+import static hirehive.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static hirehive.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import hirehive.address.logic.commands.RunCommand;
+
+public class RunCommandParserTest {
+
+    private RunCommandParser parser = new RunCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsRunCommand() {
+        assertParseSuccess(parser, " data/script.txt", new RunCommand(Paths.get("data", "script.txt"), false));
+        assertParseSuccess(parser, " new applicants.txt " + PREFIX_ATOMIC,
+                new RunCommand(Paths.get("new applicants.txt"), true));
+    }
+
+    @Test
+    public void parse_missingFile_throwsParseException() {
+        assertParseFailure(parser, "  ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " " + PREFIX_ATOMIC,
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_fileAfterAtomic_throwsParseException() {
+        assertParseFailure(parser, " " + PREFIX_ATOMIC + " script.txt",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidPath_throwsParseException() {
+        assertParseFailure(parser, " a\0b", RunCommandParser.MESSAGE_INVALID_PATH);
+    }
+}
@@ -7,19 +7,25 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 
 import hirehive.address.model.person.Person;
 import hirehive.address.model.person.exceptions.DuplicatePersonException;
+import hirehive.address.model.person.exceptions.PersonNotFoundException;
+import hirehive.address.model.tag.Tag;
 import hirehive.address.testutil.Assert;
 import hirehive.address.testutil.PersonBuilder;
 import hirehive.address.testutil.TypicalPersons;
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 
 public class AddressBookTest {
@@ -83,6 +89,256 @@ public class AddressBookTest {
         Assert.assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
     }
 
+    @Test
+    public void getPersonsWithTag_afterResetData_returnsPersonsWithTagInListOrder() {
+        addressBook.resetData(TypicalPersons.getTypicalAddressBook());
+        assertEquals(Arrays.asList(TypicalPersons.BENSON, TypicalPersons.ELLE, TypicalPersons.FIONA),
+                addressBook.getPersonsWithTag(Tag.REJECTED));
+        assertEquals(3, addressBook.countPersonsWithTag(Tag.REJECTED));
+        assertEquals(0, addressBook.countPersonsWithTag(Tag.OFFERED));
+    }
+
+    @Test
+    public void getPersonsWithTag_afterPersonRetagged_keepsListOrder() {
+        addressBook.resetData(TypicalPersons.getTypicalAddressBook());
+        Person retaggedDaniel = new PersonBuilder(TypicalPersons.DANIEL).withTag("Rejected").build();
+        addressBook.setPerson(TypicalPersons.DANIEL, retaggedDaniel);
+
+        assertEquals(Arrays.asList(TypicalPersons.ALICE, TypicalPersons.GEORGE),
+                addressBook.getPersonsWithTag(Tag.APPLICANT));
+        assertEquals(Arrays.asList(TypicalPersons.BENSON, retaggedDaniel, TypicalPersons.ELLE, TypicalPersons.FIONA),
+                addressBook.getPersonsWithTag(Tag.REJECTED));
+    }
+
+    @Test
+    public void getPersonsWithTag_afterPersonRenamedAndRetaggedTwice_keepsListOrder() {
+        addressBook.resetData(TypicalPersons.getTypicalAddressBook());
+        Person renamedDaniel = new PersonBuilder(TypicalPersons.DANIEL).withName("Daniel Tan").withTag("Rejected")
+                .build();
+        addressBook.setPerson(TypicalPersons.DANIEL, renamedDaniel);
+        Person retaggedDaniel = new PersonBuilder(renamedDaniel).withTag("Applicant").build();
+        addressBook.setPerson(renamedDaniel, retaggedDaniel);
+
+        assertEquals(Arrays.asList(TypicalPersons.ALICE, retaggedDaniel, TypicalPersons.GEORGE),
+                addressBook.getPersonsWithTag(Tag.APPLICANT));
+        assertEquals(Arrays.asList(TypicalPersons.BENSON, TypicalPersons.ELLE, TypicalPersons.FIONA),
+                addressBook.getPersonsWithTag(Tag.REJECTED));
+    }
+
+    @Test
+    public void getPersonsWithTag_afterAddAndRemove_tracksPersons() {
+        addressBook.addPerson(TypicalPersons.ALICE);
+        addressBook.addPerson(TypicalPersons.CARL);
+        addressBook.removePerson(TypicalPersons.ALICE);
+        assertEquals(Collections.emptyList(), addressBook.getPersonsWithTag(Tag.APPLICANT));
+        assertEquals(Collections.singletonList(TypicalPersons.CARL), addressBook.getPersonsWithTag(Tag.INTERVIEWEE));
+    }
+
+    @Test
+    public void getPersonsWithTag_modifyList_throwsUnsupportedOperationException() {
+        addressBook.addPerson(TypicalPersons.ALICE);
+        Assert.assertThrows(UnsupportedOperationException.class, () ->
+                addressBook.getPersonsWithTag(Tag.APPLICANT).remove(0));
+    }
+
+    @Test
+    public void getPersonsByDate_afterResetData_ordersByDateWithUndatedLast() {
+        addressBook.resetData(TypicalPersons.getTypicalAddressBook());
+        assertEquals(Arrays.asList(TypicalPersons.BENSON, TypicalPersons.ELLE, TypicalPersons.FIONA,
+                TypicalPersons.CARL, TypicalPersons.ALICE, TypicalPersons.DANIEL, TypicalPersons.GEORGE),
+                addressBook.getPersonsByDate());
+    }
+
+    @Test
+    public void getPersonsByDate_afterPersonRescheduled_keepsListOrderForSameDate() {
+        addressBook.resetData(TypicalPersons.getTypicalAddressBook());
+        Person rescheduledCarl = new PersonBuilder(TypicalPersons.CARL).withDate("01/03/2025").build();
+        addressBook.setPerson(TypicalPersons.CARL, rescheduledCarl);
+
+        assertEquals(Arrays.asList(TypicalPersons.BENSON, rescheduledCarl, TypicalPersons.ELLE, TypicalPersons.FIONA,
+                TypicalPersons.ALICE, TypicalPersons.DANIEL, TypicalPersons.GEORGE),
+                addressBook.getPersonsByDate());
+    }
+
+    @Test
+    public void getPersonsByDate_afterUndatedPersonEdited_keepsPosition() {
+        addressBook.resetData(TypicalPersons.getTypicalAddressBook());
+        Person retaggedDaniel = new PersonBuilder(TypicalPersons.DANIEL).withName("Daniel Tan").withTag("Rejected")
+                .build();
+        addressBook.setPerson(TypicalPersons.DANIEL, retaggedDaniel);
+        addressBook.removePerson(TypicalPersons.ALICE);
+
+        assertEquals(Arrays.asList(TypicalPersons.BENSON, TypicalPersons.ELLE, TypicalPersons.FIONA,
+                TypicalPersons.CARL, retaggedDaniel, TypicalPersons.GEORGE),
+                addressBook.getPersonsByDate());
+    }
+
+    @Test
+    public void setPerson_staleTarget_throwsPersonNotFoundException() {
+        addressBook.resetData(TypicalPersons.getTypicalAddressBook());
+        Person staleDaniel = new PersonBuilder(TypicalPersons.DANIEL).withTag("Rejected").build();
+        Assert.assertThrows(PersonNotFoundException.class, () ->
+                addressBook.setPerson(staleDaniel, TypicalPersons.DANIEL));
+    }
+
+    @Test
+    public void getPersonsByDate_afterAddAndRemove_tracksPersons() {
+        addressBook.addPerson(TypicalPersons.CARL);
+        addressBook.addPerson(TypicalPersons.ALICE);
+        addressBook.addPerson(TypicalPersons.BENSON);
+        addressBook.removePerson(TypicalPersons.CARL);
+        assertEquals(Arrays.asList(TypicalPersons.BENSON, TypicalPersons.ALICE), addressBook.getPersonsByDate());
+    }
+
+    @Test
+    public void getPersonsWithDateBetween_returnsPersonsInRangeByDate() {
+        addressBook.resetData(TypicalPersons.getTypicalAddressBook());
+        assertEquals(Arrays.asList(TypicalPersons.ELLE, TypicalPersons.FIONA, TypicalPersons.CARL),
+                addressBook.getPersonsWithDateBetween(LocalDate.of(2025, 3, 1), LocalDate.of(2025, 4, 1)));
+        assertEquals(Collections.emptyList(),
+                addressBook.getPersonsWithDateBetween(LocalDate.of(2025, 3, 2), LocalDate.of(2025, 3, 31)));
+        assertEquals(Collections.emptyList(),
+                addressBook.getPersonsWithDateBetween(LocalDate.of(2025, 4, 1), LocalDate.of(2025, 3, 1)));
+    }
+
+    @Test
+    public void getNextFreeDate_tracksScheduledInterviews() {
+        addressBook.resetData(TypicalPersons.getTypicalAddressBook());
+        assertEquals(LocalDate.of(2025, 3, 2), addressBook.getNextFreeDate(LocalDate.of(2025, 3, 1)));
+
+        Person rescheduledBenson = new PersonBuilder(TypicalPersons.BENSON).withDate("02/03/2025").build();
+        addressBook.setPerson(TypicalPersons.BENSON, rescheduledBenson);
+        assertEquals(LocalDate.of(2025, 3, 3), addressBook.getNextFreeDate(LocalDate.of(2025, 3, 1)));
+        assertEquals(LocalDate.of(2025, 2, 1), addressBook.getNextFreeDate(LocalDate.of(2025, 2, 1)));
+
+        addressBook.removePerson(rescheduledBenson);
+        assertEquals(LocalDate.of(2025, 3, 2), addressBook.getNextFreeDate(LocalDate.of(2025, 3, 1)));
+    }
+
+    @Test
+    public void getVersion_changesOnEveryMutation() {
+        long version = addressBook.getVersion();
+        addressBook.addPerson(TypicalPersons.ALICE);
+        assertTrue(addressBook.getVersion() != version);
+
+        version = addressBook.getVersion();
+        addressBook.setPerson(TypicalPersons.ALICE, TypicalPersons.BENSON);
+        assertTrue(addressBook.getVersion() != version);
+
+        version = addressBook.getVersion();
+        addressBook.removePerson(TypicalPersons.BENSON);
+        assertTrue(addressBook.getVersion() != version);
+
+        version = addressBook.getVersion();
+        addressBook.resetData(TypicalPersons.getTypicalAddressBook());
+        assertTrue(addressBook.getVersion() != version);
+
+        version = addressBook.getVersion();
+        addressBook.hasPerson(TypicalPersons.ALICE);
+        addressBook.getPersonsWithTag(Tag.APPLICANT);
+        assertEquals(version, addressBook.getVersion());
+    }
+
+    @Test
+    public void constructor_copy_keepsVersion() {
+        AddressBook original = TypicalPersons.getTypicalAddressBook();
+        AddressBook copy = new AddressBook(original);
+        assertEquals(original.getVersion(), copy.getVersion());
+
+        copy.removePerson(TypicalPersons.ALICE);
+        assertEquals(Optional.of(List.of(PersonChange.remove(TypicalPersons.ALICE))),
+                copy.getChangesSince(original.getVersion()));
+    }
+
+    @Test
+    public void getChangesSince_recordedChanges_returnsChangesInOrder() {
+        long initialVersion = addressBook.getVersion();
+        Person editedAlice = new PersonBuilder(TypicalPersons.ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        addressBook.addPerson(TypicalPersons.ALICE);
+        long addedVersion = addressBook.getVersion();
+        addressBook.setPerson(TypicalPersons.ALICE, editedAlice);
+        addressBook.removePerson(editedAlice);
+
+        List<PersonChange> expectedChanges = List.of(PersonChange.add(TypicalPersons.ALICE),
+                PersonChange.set(TypicalPersons.ALICE, editedAlice), PersonChange.remove(editedAlice));
+        assertEquals(Optional.of(expectedChanges), addressBook.getChangesSince(initialVersion));
+        assertEquals(Optional.of(expectedChanges.subList(1, 3)), addressBook.getChangesSince(addedVersion));
+        assertEquals(Optional.of(List.of()), addressBook.getChangesSince(addressBook.getVersion()));
+
+        // snapshots keep the changes leading up to them
+        ReadOnlyAddressBook snapshot = new AddressBookSnapshot(addressBook);
+        addressBook.addPerson(TypicalPersons.BENSON);
+        assertEquals(Optional.of(expectedChanges), snapshot.getChangesSince(initialVersion));
+
+        // unknown versions, such as those of other address books
+        assertEquals(Optional.empty(), addressBook.getChangesSince(new AddressBook().getVersion()));
+    }
+
+    @Test
+    public void getChangesSince_dataReplaced_returnsEmpty() {
+        addressBook.addPerson(TypicalPersons.ALICE);
+        long version = addressBook.getVersion();
+        addressBook.resetData(TypicalPersons.getTypicalAddressBook());
+        assertEquals(Optional.empty(), addressBook.getChangesSince(version));
+    }
+
+    @Test
+    public void applyBatch_manyChanges_appliedWithSingleChangeEvent() {
+        addressBook.resetData(TypicalPersons.getTypicalAddressBook());
+        AtomicInteger personListChanges = new AtomicInteger();
+        AtomicInteger dateIndexChanges = new AtomicInteger();
+        addressBook.getPersonList().addListener((ListChangeListener<Person>) change ->
+                personListChanges.incrementAndGet());
+        addressBook.getPersonsByDate().addListener((ListChangeListener<Person>) change ->
+                dateIndexChanges.incrementAndGet());
+        long version = addressBook.getVersion();
+        Person editedAlice = new PersonBuilder(TypicalPersons.ALICE).withDate("02/03/2025").build();
+
+        addressBook.applyBatch(batch -> {
+            batch.removePerson(TypicalPersons.BENSON);
+            batch.setPerson(TypicalPersons.ALICE, editedAlice);
+            batch.addPerson(TypicalPersons.HOON);
+        });
+
+        AddressBook expected = TypicalPersons.getTypicalAddressBook();
+        expected.removePerson(TypicalPersons.BENSON);
+        expected.setPerson(TypicalPersons.ALICE, editedAlice);
+        expected.addPerson(TypicalPersons.HOON);
+        assertEquals(expected, addressBook);
+        assertEquals(expected.getPersonsByDate(), addressBook.getPersonsByDate());
+        assertEquals(expected.getPersonsWithTag(Tag.APPLICANT), addressBook.getPersonsWithTag(Tag.APPLICANT));
+        assertEquals(expected.getNextFreeDate(LocalDate.of(2025, 3, 1)),
+                addressBook.getNextFreeDate(LocalDate.of(2025, 3, 1)));
+        assertEquals(1, personListChanges.get());
+        assertEquals(1, dateIndexChanges.get());
+        assertEquals(Optional.of(List.of(PersonChange.remove(TypicalPersons.BENSON),
+                PersonChange.set(TypicalPersons.ALICE, editedAlice), PersonChange.add(TypicalPersons.HOON))),
+                addressBook.getChangesSince(version));
+    }
+
+    @Test
+    public void applyBatch_changesThrow_addressBookUnchanged() {
+        addressBook.resetData(TypicalPersons.getTypicalAddressBook());
+        long version = addressBook.getVersion();
+
+        assertThrows(DuplicatePersonException.class, () -> addressBook.applyBatch(batch -> {
+            batch.removePerson(TypicalPersons.BENSON);
+            batch.addPerson(TypicalPersons.ALICE);
+        }));
+
+        assertEquals(TypicalPersons.getTypicalAddressBook(), addressBook);
+        assertTrue(addressBook.hasPerson(TypicalPersons.BENSON));
+        assertEquals(version, addressBook.getVersion());
+    }
+
+    @Test
+    public void applyBatch_noChanges_versionUnchanged() {
+        addressBook.resetData(TypicalPersons.getTypicalAddressBook());
+        long version = addressBook.getVersion();
+        addressBook.applyBatch(batch -> batch.hasPerson(TypicalPersons.ALICE));
+        assertEquals(version, addressBook.getVersion());
+    }
+
     @Test
     public void toStringMethod() {
         String expected = AddressBook.class.getCanonicalName() + "{persons=" + addressBook.getPersonList() + "}";
@@ -103,6 +359,11 @@ public class AddressBookTest {
         public ObservableList<Person> getPersonList() {
             return persons;
         }
+
+        @Override
+        public long getVersion() {
+            return 0;
+        }
     }
 
 }
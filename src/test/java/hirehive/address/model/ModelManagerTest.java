@@ -13,6 +13,7 @@ import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.time.format.ResolverStyle;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import org.junit.jupiter.api.Assertions;
@@ -23,8 +24,12 @@ import hirehive.address.model.person.InterviewDate;
 import hirehive.address.model.person.NameContainsKeywordsPredicate;
 import hirehive.address.model.person.Note;
 import hirehive.address.model.person.Person;
+import hirehive.address.model.person.PersonContainsTagPredicate;
+import hirehive.address.model.person.UpcomingInterviewPredicate;
+import hirehive.address.model.tag.Tag;
 import hirehive.address.testutil.AddressBookBuilder;
 import hirehive.address.testutil.Assert;
+import hirehive.address.testutil.PersonBuilder;
 import hirehive.address.testutil.TypicalPersons;
 
 public class ModelManagerTest {
@@ -134,6 +139,76 @@ public class ModelManagerTest {
         assertEquals(originalList, resetList);
     }
 
+    @Test
+    public void updateFilteredPersonList_tagPredicate_followsTagChanges() {
+        modelManager = new ModelManager(TypicalPersons.getTypicalAddressBook(), new UserPrefs());
+        modelManager.updateFilteredPersonList(new PersonContainsTagPredicate(Tag.REJECTED));
+        assertEquals(Arrays.asList(TypicalPersons.BENSON, TypicalPersons.ELLE, TypicalPersons.FIONA),
+                modelManager.getFilteredPersonList());
+
+        modelManager.setPerson(TypicalPersons.ELLE, new PersonBuilder(TypicalPersons.ELLE).withTag("Offered").build());
+        assertEquals(Arrays.asList(TypicalPersons.BENSON, TypicalPersons.FIONA), modelManager.getFilteredPersonList());
+
+        modelManager.unfilterPersonList();
+        assertEquals(TypicalPersons.getTypicalPersons().size(), modelManager.getFilteredPersonList().size());
+    }
+
+    @Test
+    public void updateFilteredPersonList_upcomingInterviewPredicate_followsDateChanges() {
+        modelManager = new ModelManager(TypicalPersons.getTypicalAddressBook(), new UserPrefs());
+        modelManager.updateFilteredPersonList(new UpcomingInterviewPredicate(31, "01/03/2025"));
+        assertEquals(Arrays.asList(TypicalPersons.ELLE, TypicalPersons.FIONA, TypicalPersons.CARL),
+                modelManager.getFilteredPersonList());
+
+        Person rescheduledElle = new PersonBuilder(TypicalPersons.ELLE).withDate("01/05/2025").build();
+        modelManager.setPerson(TypicalPersons.ELLE, rescheduledElle);
+        assertEquals(Arrays.asList(TypicalPersons.FIONA, TypicalPersons.CARL), modelManager.getFilteredPersonList());
+
+        modelManager.deletePerson(TypicalPersons.CARL);
+        assertEquals(Arrays.asList(TypicalPersons.FIONA), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_namePredicate_followsNameChanges() {
+        modelManager = new ModelManager(TypicalPersons.getTypicalAddressBook(), new UserPrefs());
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate("meier"));
+        assertEquals(Arrays.asList(TypicalPersons.BENSON, TypicalPersons.DANIEL), modelManager.getFilteredPersonList());
+
+        Person renamedBenson = new PersonBuilder(TypicalPersons.BENSON).withName("Benson Meyer").build();
+        modelManager.setPerson(TypicalPersons.BENSON, renamedBenson);
+        Person renamedCarl = new PersonBuilder(TypicalPersons.CARL).withName("Carl Meier").build();
+        modelManager.setPerson(TypicalPersons.CARL, renamedCarl);
+        assertEquals(Arrays.asList(renamedCarl, TypicalPersons.DANIEL), modelManager.getFilteredPersonList());
+
+        modelManager.sortPersons();
+        assertEquals(Arrays.asList(renamedCarl, TypicalPersons.DANIEL), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_contradictingTags_showsNoOne() {
+        modelManager = new ModelManager(TypicalPersons.getTypicalAddressBook(), new UserPrefs());
+        modelManager.updateFilteredPersonList(new PersonContainsTagPredicate(Tag.APPLICANT));
+        modelManager.updateFilteredPersonList(new PersonContainsTagPredicate(Tag.REJECTED));
+        assertEquals(Collections.emptyList(), modelManager.getFilteredPersonList());
+
+        modelManager.unfilterPersonList();
+        assertEquals(TypicalPersons.getTypicalPersons(), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void sortPersons_afterTagFilter_keepsFilter() {
+        modelManager = new ModelManager(TypicalPersons.getTypicalAddressBook(), new UserPrefs());
+        modelManager.updateFilteredPersonList(new PersonContainsTagPredicate(Tag.APPLICANT));
+        modelManager.setPerson(TypicalPersons.GEORGE,
+                new PersonBuilder(TypicalPersons.GEORGE).withDate("01/01/2025").build());
+        modelManager.sortPersons();
+
+        List<Person> sortedList = modelManager.getFilteredPersonList();
+        assertEquals(3, sortedList.size());
+        assertEquals(TypicalPersons.GEORGE.getName(), sortedList.get(0).getName());
+        assertEquals(Arrays.asList(TypicalPersons.ALICE, TypicalPersons.DANIEL), sortedList.subList(1, 3));
+    }
+
     @Test
     public void getPersonNote_initial_returnsDefaultNote() {
         assertEquals(modelManager.getPersonNote(), new Note(Note.DEFAULT_NOTE));
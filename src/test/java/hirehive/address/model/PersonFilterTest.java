@@ -0,0 +1,105 @@
+package hirehive.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import hirehive.address.model.person.NameContainsKeywordsPredicate;
+import hirehive.address.model.person.NoteContainsKeywordsPredicate;
+import hirehive.address.model.person.Person;
+import hirehive.address.model.person.PersonContainsTagPredicate;
+import hirehive.address.model.person.PersonDoesNotContainTagPredicate;
+import hirehive.address.model.person.UpcomingInterviewPredicate;
+import hirehive.address.model.tag.Tag;
+import hirehive.address.testutil.TypicalPersons;
+
+public class PersonFilterTest {
+
+    @Test
+    public void with_showAllPredicate_returnsSameFilter() {
+        assertSame(PersonFilter.ALL, PersonFilter.ALL.with(Model.PREDICATE_SHOW_ALL_PERSONS));
+        assertTrue(PersonFilter.ALL.test(TypicalPersons.ALICE));
+    }
+
+    @Test
+    public void with_impliedPredicate_returnsSameFilter() {
+        PersonFilter filter = PersonFilter.ALL.with(new NameContainsKeywordsPredicate("Meier"));
+        assertSame(filter, filter.with(new NameContainsKeywordsPredicate("Meier")));
+        assertSame(filter, filter.with(new NameContainsKeywordsPredicate("mei")));
+
+        PersonFilter tagFilter = PersonFilter.ALL.with(new PersonContainsTagPredicate(Tag.APPLICANT));
+        assertSame(tagFilter, tagFilter.with(new PersonDoesNotContainTagPredicate(Tag.REJECTED)));
+    }
+
+    @Test
+    public void with_strongerPredicate_replacesWeakerPredicate() {
+        PersonFilter filter = PersonFilter.ALL
+                .with(new NameContainsKeywordsPredicate("mei"))
+                .with(new NameContainsKeywordsPredicate("Daniel Meier"));
+        assertEquals(PersonFilter.ALL.with(new NameContainsKeywordsPredicate("Daniel Meier")), filter);
+
+        PersonFilter rangeFilter = PersonFilter.ALL
+                .with(new UpcomingInterviewPredicate(30, "01/03/2025"))
+                .with(new UpcomingInterviewPredicate(5, "02/03/2025"));
+        assertEquals(PersonFilter.ALL.with(new UpcomingInterviewPredicate(5, "02/03/2025")), rangeFilter);
+
+        PersonFilter noteFilter = PersonFilter.ALL
+                .with(new NoteContainsKeywordsPredicate("shy funny"))
+                .with(new NoteContainsKeywordsPredicate("shy"));
+        assertEquals(PersonFilter.ALL.with(new NoteContainsKeywordsPredicate("shy")), noteFilter);
+    }
+
+    @Test
+    public void with_contradictingPredicate_rejectsEveryone() {
+        PersonFilter filter = PersonFilter.ALL
+                .with(new PersonContainsTagPredicate(Tag.APPLICANT))
+                .with(new PersonContainsTagPredicate(Tag.REJECTED));
+        assertTrue(filter.isContradiction());
+        assertFalse(filter.test(TypicalPersons.ALICE));
+        assertSame(filter, filter.with(new NameContainsKeywordsPredicate("Alice")));
+
+        assertTrue(PersonFilter.ALL
+                .with(new PersonDoesNotContainTagPredicate(Tag.APPLICANT))
+                .with(new PersonContainsTagPredicate(Tag.APPLICANT))
+                .isContradiction());
+        assertTrue(PersonFilter.ALL
+                .with(new UpcomingInterviewPredicate(3, "01/03/2025"))
+                .with(new UpcomingInterviewPredicate(3, "05/03/2025"))
+                .isContradiction());
+    }
+
+    @Test
+    public void with_mixedPredicates_testsAllOfThem() {
+        Predicate<Person> notAlice = person -> !person.equals(TypicalPersons.ALICE);
+        PersonFilter filter = PersonFilter.ALL
+                .with(notAlice)
+                .with(new NoteContainsKeywordsPredicate("funny shy"))
+                .with(new PersonContainsTagPredicate(Tag.APPLICANT));
+        assertFalse(filter.isContradiction());
+        assertFalse(filter.test(TypicalPersons.ALICE));
+        assertTrue(filter.test(TypicalPersons.DANIEL));
+        assertFalse(filter.test(TypicalPersons.GEORGE));
+        assertEquals(Optional.of(new PersonContainsTagPredicate(Tag.APPLICANT)),
+                filter.getTerm(PersonContainsTagPredicate.class));
+        assertEquals(Optional.empty(), filter.getTerm(UpcomingInterviewPredicate.class));
+    }
+
+    @Test
+    public void with_manyStackedFilters_staysFlat() {
+        PersonFilter filter = PersonFilter.ALL;
+        for (int i = 0; i < 10_000; i++) {
+            filter = filter.with(new PersonContainsTagPredicate(Tag.APPLICANT))
+                    .with(new NameContainsKeywordsPredicate("Meier"));
+        }
+        assertEquals(PersonFilter.ALL
+                .with(new NameContainsKeywordsPredicate("Meier"))
+                .with(new PersonContainsTagPredicate(Tag.APPLICANT)), filter);
+        assertTrue(filter.test(TypicalPersons.DANIEL));
+    }
+}
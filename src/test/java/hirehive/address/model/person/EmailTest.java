@@ -1,12 +1,14 @@
 package hirehive.address.model.person;
 
 import static hirehive.address.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
 
 import hirehive.address.testutil.Assert;
+import hirehive.address.testutil.FuzzedStrings;
 
 public class EmailTest {
 
@@ -87,4 +89,12 @@ public class EmailTest {
         // different values -> returns false
         assertFalse(email.equals(new Email("other.valid@email")));
     }
+
+    @Test
+    public void isValidEmail_fuzzedInputs_sameAsRegex() {
+        for (String test : FuzzedStrings.generate(50000, "PeterJack_1190@example.com", "a1+be.d@example1.com",
+                "peter_jack@very-very-very-long-example.com", "e1234567@u.nus.edu", "a@bc", "ab@a-bc.d-e")) {
+            assertEquals(test.matches(Email.VALIDATION_REGEX), Email.isValidEmail(test), test);
+        }
+    }
 }
@@ -1,8 +1,11 @@
 package hirehive.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.LocalDate;
+
 import org.junit.jupiter.api.Test;
 
 import hirehive.address.testutil.Assert;
@@ -20,6 +23,18 @@ public class InterviewDateTest {
         Assert.assertThrows(IllegalArgumentException.class, () -> new InterviewDate(invalidDate));
     }
 
+    @Test
+    public void constructor_invalidDate_throwsWithConstraints() {
+        Assert.assertThrows(IllegalArgumentException.class, InterviewDate.MESSAGE_CONSTRAINTS, () ->
+                new InterviewDate("31/02/2025"));
+    }
+
+    @Test
+    public void of() {
+        Assert.assertThrows(NullPointerException.class, () -> InterviewDate.of(null));
+        assertEquals(new InterviewDate("01/03/2025"), InterviewDate.of(LocalDate.of(2025, 3, 1)));
+    }
+
     @Test
     public void isValidDate() {
         // null date
@@ -0,0 +1,64 @@
+package hirehive.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import hirehive.address.testutil.Assert;
+import hirehive.address.testutil.PersonBuilder;
+import hirehive.address.testutil.TypicalPersons;
+
+public class NameIndexTest {
+
+    private final NameIndex nameIndex = new NameIndex();
+
+    @Test
+    public void canNarrow() {
+        assertFalse(NameIndex.canNarrow("al"));
+        assertFalse(NameIndex.canNarrow("  al  "));
+        assertTrue(NameIndex.canNarrow("ali"));
+    }
+
+    @Test
+    public void getCandidates_substringAnyCase_returnsMatchingPersons() {
+        nameIndex.add(TypicalPersons.ALICE);
+        nameIndex.add(TypicalPersons.BENSON);
+        nameIndex.add(TypicalPersons.DANIEL);
+
+        assertEquals(Set.of(TypicalPersons.BENSON.getIdentityKey(), TypicalPersons.DANIEL.getIdentityKey()),
+                nameIndex.getCandidates("MEIER"));
+        assertEquals(Set.of(TypicalPersons.ALICE.getIdentityKey()), nameIndex.getCandidates("ce pau"));
+        assertEquals(Collections.emptySet(), nameIndex.getCandidates("Kurz"));
+    }
+
+    @Test
+    public void getCandidates_afterRemove_excludesPerson() {
+        nameIndex.add(TypicalPersons.BENSON);
+        nameIndex.add(TypicalPersons.DANIEL);
+        nameIndex.remove(TypicalPersons.BENSON);
+        assertEquals(Set.of(TypicalPersons.DANIEL.getIdentityKey()), nameIndex.getCandidates("Meier"));
+
+        nameIndex.clear();
+        assertEquals(Collections.emptySet(), nameIndex.getCandidates("Meier"));
+    }
+
+    @Test
+    public void getCandidates_afterRename_followsNewName() {
+        Person renamedCarl = new PersonBuilder(TypicalPersons.CARL).withName("Carl Meier").build();
+        nameIndex.add(TypicalPersons.CARL);
+        nameIndex.remove(TypicalPersons.CARL);
+        nameIndex.add(renamedCarl);
+        assertEquals(Set.of(renamedCarl.getIdentityKey()), nameIndex.getCandidates("meier"));
+        assertEquals(Collections.emptySet(), nameIndex.getCandidates("kurz"));
+    }
+
+    @Test
+    public void getCandidates_shortKeyword_throwsIllegalArgumentException() {
+        Assert.assertThrows(IllegalArgumentException.class, () -> nameIndex.getCandidates("al"));
+    }
+}
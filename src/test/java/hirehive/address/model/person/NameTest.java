@@ -1,12 +1,14 @@
 package hirehive.address.model.person;
 
 import static hirehive.address.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
 
 import hirehive.address.testutil.Assert;
+import hirehive.address.testutil.FuzzedStrings;
 
 public class NameTest {
 
@@ -67,5 +69,31 @@ public class NameTest {
 
         // different values -> returns false
         assertFalse(name.equals(new Name("Other Valid Name")));
+
+        // different case -> returns true
+        assertTrue(name.equals(new Name("valid NAME")));
+
+        // different spacing -> returns false
+        assertFalse(name.equals(new Name("Valid   Name ")));
+    }
+
+    @Test
+    public void hashCode_equalNames_sameHashCode() {
+        assertEquals(new Name("Valid Name").hashCode(), new Name("valid NAME").hashCode());
+    }
+
+    @Test
+    public void getIdentityKey() {
+        assertEquals("valid name", new Name("Valid Name").getIdentityKey());
+        assertEquals("valid name", new Name("Valid   NAME  ").getIdentityKey());
+        assertEquals("r@c/hel, wa()l-ker.", new Name("R@c/hel,  Wa()l-ker.").getIdentityKey());
+    }
+
+    @Test
+    public void isValidName_fuzzedInputs_sameAsRegex() {
+        for (String test : FuzzedStrings.generate(20000, "Peter Jack", "Capital Tan", "Mary-Ann O'Neil (Jr.)",
+                "a/o Lee @ Work")) {
+            assertEquals(test.matches(Name.VALIDATION_REGEX), Name.isValidName(test), test);
+        }
     }
 }
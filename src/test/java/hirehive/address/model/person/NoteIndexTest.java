@@ -0,0 +1,53 @@
+package hirehive.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import hirehive.address.testutil.PersonBuilder;
+import hirehive.address.testutil.TypicalPersons;
+
+public class NoteIndexTest {
+
+    private final NoteIndex noteIndex = new NoteIndex();
+
+    @Test
+    public void tokenize() {
+        assertEquals(Arrays.asList("only", "18", "years", "old"), NoteIndex.tokenize("Only 18 years old"));
+        assertEquals(Arrays.asList("c", "k8s", "on", "call"), NoteIndex.tokenize("  C++, k8s; on-call!"));
+        assertEquals(Collections.emptyList(), NoteIndex.tokenize(" ?! "));
+    }
+
+    @Test
+    public void getMatches_ranksByKeywordsThenOccurrences() {
+        Person both = new PersonBuilder(TypicalPersons.ALICE).withNote("Java and Go").build();
+        Person javaTwice = new PersonBuilder(TypicalPersons.BENSON).withNote("Java, more Java").build();
+        Person javaOnce = new PersonBuilder(TypicalPersons.CARL).withNote("JAVA").build();
+        noteIndex.add(both);
+        noteIndex.add(javaTwice);
+        noteIndex.add(javaOnce);
+
+        Map<String, NoteIndex.Relevance> matches = noteIndex.getMatches(Arrays.asList("java", "go"));
+        assertEquals(3, matches.size());
+        assertTrue(matches.get(both.getIdentityKey()).compareTo(matches.get(javaTwice.getIdentityKey())) < 0);
+        assertTrue(matches.get(javaTwice.getIdentityKey()).compareTo(matches.get(javaOnce.getIdentityKey())) < 0);
+    }
+
+    @Test
+    public void getMatches_afterRemove_excludesPerson() {
+        noteIndex.add(TypicalPersons.ALICE);
+        noteIndex.add(TypicalPersons.HOON);
+        noteIndex.remove(TypicalPersons.ALICE);
+        assertEquals(Collections.emptyMap(), noteIndex.getMatches(List.of("shy")));
+        assertEquals(1, noteIndex.getMatches(List.of("skinny")).size());
+
+        noteIndex.clear();
+        assertEquals(Collections.emptyMap(), noteIndex.getMatches(List.of("skinny")));
+    }
+}
@@ -0,0 +1,77 @@
+package hirehive.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import hirehive.address.testutil.Assert;
+
+public class OccupiedDatesTest {
+
+    private static final LocalDate DAY_ONE = LocalDate.of(2025, 3, 1);
+    private static final LocalDate DAY_TWO = DAY_ONE.plusDays(1);
+    private static final LocalDate DAY_THREE = DAY_ONE.plusDays(2);
+    private static final LocalDate DAY_FOUR = DAY_ONE.plusDays(3);
+
+    private final OccupiedDates occupiedDates = new OccupiedDates();
+
+    @Test
+    public void nextFreeDate_noInterviews_returnsFrom() {
+        assertEquals(DAY_ONE, occupiedDates.nextFreeDate(DAY_ONE));
+    }
+
+    @Test
+    public void nextFreeDate_consecutiveInterviews_skipsWholeRun() {
+        occupiedDates.add(DAY_THREE);
+        occupiedDates.add(DAY_ONE);
+        occupiedDates.add(DAY_TWO);
+        assertEquals(DAY_FOUR, occupiedDates.nextFreeDate(DAY_ONE));
+        assertEquals(DAY_FOUR, occupiedDates.nextFreeDate(DAY_TWO));
+        assertEquals(DAY_FOUR, occupiedDates.nextFreeDate(DAY_FOUR));
+    }
+
+    @Test
+    public void nextFreeDate_interviewsBeforeFrom_returnsFrom() {
+        occupiedDates.add(DAY_ONE);
+        assertEquals(DAY_THREE, occupiedDates.nextFreeDate(DAY_THREE));
+    }
+
+    @Test
+    public void remove_middleOfRun_splitsRun() {
+        occupiedDates.add(DAY_ONE);
+        occupiedDates.add(DAY_TWO);
+        occupiedDates.add(DAY_THREE);
+        occupiedDates.remove(DAY_TWO);
+        assertFalse(occupiedDates.contains(DAY_TWO));
+        assertEquals(DAY_TWO, occupiedDates.nextFreeDate(DAY_ONE));
+        assertEquals(DAY_FOUR, occupiedDates.nextFreeDate(DAY_THREE));
+    }
+
+    @Test
+    public void remove_sharedDate_staysOccupiedUntilLastInterviewRemoved() {
+        occupiedDates.add(DAY_ONE);
+        occupiedDates.add(DAY_ONE);
+        occupiedDates.remove(DAY_ONE);
+        assertTrue(occupiedDates.contains(DAY_ONE));
+        assertEquals(DAY_TWO, occupiedDates.nextFreeDate(DAY_ONE));
+        occupiedDates.remove(DAY_ONE);
+        assertEquals(DAY_ONE, occupiedDates.nextFreeDate(DAY_ONE));
+    }
+
+    @Test
+    public void remove_freeDate_throwsIllegalArgumentException() {
+        Assert.assertThrows(IllegalArgumentException.class, () -> occupiedDates.remove(DAY_ONE));
+    }
+
+    @Test
+    public void clear_removesAllInterviews() {
+        occupiedDates.add(DAY_ONE);
+        occupiedDates.clear();
+        assertFalse(occupiedDates.contains(DAY_ONE));
+        assertEquals(DAY_ONE, occupiedDates.nextFreeDate(DAY_ONE));
+    }
+}
@@ -1,12 +1,14 @@
 package hirehive.address.model.person;
 
 import static hirehive.address.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
 
 import hirehive.address.testutil.Assert;
+import hirehive.address.testutil.FuzzedStrings;
 
 public class PhoneTest {
 
@@ -59,4 +61,11 @@ public class PhoneTest {
         // different values -> returns false
         assertFalse(phone.equals(new Phone("87654321")));
     }
+
+    @Test
+    public void isValidPhone_fuzzedInputs_sameAsRegex() {
+        for (String test : FuzzedStrings.generate(20000, "93121534", "81234567", "60000000")) {
+            assertEquals(test.matches(Phone.VALIDATION_REGEX), Phone.isValidPhone(test), test);
+        }
+    }
 }
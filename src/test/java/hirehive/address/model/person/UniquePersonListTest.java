@@ -7,10 +7,12 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import hirehive.address.model.person.exceptions.DuplicatePersonException;
@@ -47,6 +49,28 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_personWithDifferentCaseAndSpacingInList_returnsTrue() {
+        uniquePersonList.add(TypicalPersons.ALICE);
+        Person editedAlice = new PersonBuilder(TypicalPersons.ALICE).withName("alice   PAULINE ").build();
+        assertTrue(uniquePersonList.contains(editedAlice));
+    }
+
+    @Test
+    public void contains_removedPerson_returnsFalse() {
+        uniquePersonList.add(TypicalPersons.ALICE);
+        uniquePersonList.remove(TypicalPersons.ALICE);
+        assertFalse(uniquePersonList.contains(TypicalPersons.ALICE));
+    }
+
+    @Test
+    public void contains_afterSetPersonWithDifferentIdentity_tracksEditedPerson() {
+        uniquePersonList.add(TypicalPersons.ALICE);
+        uniquePersonList.setPerson(TypicalPersons.ALICE, TypicalPersons.BOB);
+        assertFalse(uniquePersonList.contains(TypicalPersons.ALICE));
+        assertTrue(uniquePersonList.contains(TypicalPersons.BOB));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         Assert.assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -162,6 +186,68 @@ public class UniquePersonListTest {
         Assert.assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithDuplicatePersons_reportsEveryDuplicateGroup() {
+        Person editedAlice = new PersonBuilder(TypicalPersons.ALICE).withName("alice pauline").build();
+        Person editedBob = new PersonBuilder(TypicalPersons.BOB).withAddress(VALID_ADDRESS_BOB + " 2").build();
+        List<Person> listWithDuplicatePersons = Arrays.asList(TypicalPersons.ALICE, TypicalPersons.BOB,
+                TypicalPersons.CARL, editedAlice, editedBob);
+
+        DuplicatePersonException exception = Assertions.assertThrows(
+                DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
+        List<List<Person>> expectedGroups = Arrays.asList(Arrays.asList(TypicalPersons.ALICE, editedAlice),
+                Arrays.asList(TypicalPersons.BOB, editedBob));
+        assertEquals(expectedGroups, exception.getDuplicateGroups());
+        assertEquals(new UniquePersonList(), uniquePersonList);
+    }
+
+    @Test
+    public void setPersons_largeList_replacesOwnListWithProvidedList() {
+        // a pairwise uniqueness check would need over a billion comparisons for this many persons
+        List<Person> personList = new ArrayList<>();
+        for (int i = 0; i < 50_000; i++) {
+            personList.add(new PersonBuilder().withName("Applicant " + toLetters(i)).build());
+        }
+        uniquePersonList.setPersons(personList);
+        assertEquals(personList, uniquePersonList.asUnmodifiableObservableList());
+        assertTrue(uniquePersonList.contains(personList.get(49_999)));
+    }
+
+    @Test
+    public void getPersonsInListOrder_afterEditsAndRemovals_followsListOrder() {
+        uniquePersonList.add(TypicalPersons.ALICE);
+        uniquePersonList.add(TypicalPersons.BENSON);
+        uniquePersonList.add(TypicalPersons.CARL);
+        Person renamedAlice = new PersonBuilder(TypicalPersons.ALICE).withName("Alicia Pauline").build();
+        uniquePersonList.setPerson(TypicalPersons.ALICE, renamedAlice);
+        uniquePersonList.remove(TypicalPersons.BENSON);
+        uniquePersonList.add(TypicalPersons.DANIEL);
+
+        List<String> identityKeys = Arrays.asList(TypicalPersons.DANIEL.getIdentityKey(),
+                TypicalPersons.BENSON.getIdentityKey(), TypicalPersons.CARL.getIdentityKey(),
+                renamedAlice.getIdentityKey());
+        assertEquals(Arrays.asList(renamedAlice, TypicalPersons.CARL, TypicalPersons.DANIEL),
+                uniquePersonList.getPersonsInListOrder(identityKeys));
+    }
+
+    @Test
+    public void getOrdinal_personNotInList_throwsPersonNotFoundException() {
+        uniquePersonList.add(TypicalPersons.ALICE);
+        Person editedAlice = new PersonBuilder(TypicalPersons.ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        Assert.assertThrows(PersonNotFoundException.class, () -> uniquePersonList.getOrdinal(editedAlice));
+        Assert.assertThrows(PersonNotFoundException.class, () -> uniquePersonList.getOrdinal(TypicalPersons.BENSON));
+    }
+
+    @Test
+    public void getOrdinal_afterEdit_keepsListOrder() {
+        uniquePersonList.add(TypicalPersons.ALICE);
+        uniquePersonList.add(TypicalPersons.BENSON);
+        Person renamedAlice = new PersonBuilder(TypicalPersons.ALICE).withName("Alicia Pauline").build();
+        uniquePersonList.setPerson(TypicalPersons.ALICE, renamedAlice);
+
+        assertTrue(uniquePersonList.getOrdinal(renamedAlice) < uniquePersonList.getOrdinal(TypicalPersons.BENSON));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         Assert.assertThrows(UnsupportedOperationException.class, ()
@@ -172,4 +258,16 @@ public class UniquePersonListTest {
     public void toStringMethod() {
         assertEquals(uniquePersonList.asUnmodifiableObservableList().toString(), uniquePersonList.toString());
     }
+
+    /**
+     * Returns {@code number} written in base 26 using the letters a to z, as names cannot contain digits.
+     */
+    private static String toLetters(int number) {
+        StringBuilder letters = new StringBuilder();
+        do {
+            letters.append((char) ('a' + number % 26));
+            number /= 26;
+        } while (number > 0);
+        return letters.toString();
+    }
 }
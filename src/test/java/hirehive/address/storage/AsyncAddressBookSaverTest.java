@@ -0,0 +1,132 @@
+package hirehive.address.storage;
+
+import static hirehive.address.testutil.Assert.assertThrows;
+import static hirehive.address.testutil.TypicalPersons.ALICE;
+import static hirehive.address.testutil.TypicalPersons.BENSON;
+import static hirehive.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import hirehive.address.model.AddressBook;
+import hirehive.address.model.ReadOnlyAddressBook;
+
+public class AsyncAddressBookSaverTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_nullStorage_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new AsyncAddressBookSaver(null));
+    }
+
+    @Test
+    public void save_thenFlush_writesLatestData() throws Exception {
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(testFolder.resolve("addressBook.json"));
+        AsyncAddressBookSaver saver = new AsyncAddressBookSaver(storage);
+        AddressBook addressBook = getTypicalAddressBook();
+
+        saver.save(addressBook);
+        // changes made after the save was requested are not written by it
+        addressBook.removePerson(ALICE);
+        saver.flush();
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook().get()));
+
+        saver.save(addressBook);
+        saver.close();
+        assertEquals(addressBook, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void save_duringWrite_coalescesPendingSaves() throws Exception {
+        RecordingAddressBookStorage storage = new RecordingAddressBookStorage();
+        AsyncAddressBookSaver saver = new AsyncAddressBookSaver(storage);
+        AddressBook addressBook = getTypicalAddressBook();
+
+        saver.save(addressBook);
+        storage.writeStarted.await();
+        addressBook.removePerson(ALICE);
+        saver.save(addressBook);
+        addressBook.removePerson(BENSON);
+        saver.save(addressBook);
+        storage.releaseWrite.countDown();
+        saver.flush();
+
+        assertEquals(2, storage.saved.size());
+        assertEquals(getTypicalAddressBook().getPersonList(), storage.saved.get(0).getPersonList());
+        assertEquals(addressBook.getPersonList(), storage.saved.get(1).getPersonList());
+    }
+
+    @Test
+    public void save_storageThrows_reportsFailureUntilNextSuccess() throws Exception {
+        IOException error = new IOException("dummy IO exception");
+        List<IOException> reported = new ArrayList<>();
+        FailingAddressBookStorage storage = new FailingAddressBookStorage(error);
+        AsyncAddressBookSaver saver = new AsyncAddressBookSaver(storage);
+        saver.setFailureHandler(reported::add);
+
+        saver.save(new AddressBook());
+        assertThrows(IOException.class, saver::flush);
+        assertTrue(saver.hasFailed());
+        assertEquals(List.of(error), reported);
+
+        storage.isFailing = false;
+        saver.save(new AddressBook());
+        saver.flush();
+        assertFalse(saver.hasFailed());
+    }
+
+    /**
+     * An AddressBookStorage that records what it saves, blocking its first save until released.
+     */
+    private static class RecordingAddressBookStorage extends JsonAddressBookStorage {
+        private final List<ReadOnlyAddressBook> saved = new ArrayList<>();
+        private final CountDownLatch writeStarted = new CountDownLatch(1);
+        private final CountDownLatch releaseWrite = new CountDownLatch(1);
+
+        RecordingAddressBookStorage() {
+            super(Path.of("unused.json"));
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            saved.add(addressBook);
+            writeStarted.countDown();
+            try {
+                releaseWrite.await();
+            } catch (InterruptedException e) {
+                throw new IOException(e);
+            }
+        }
+    }
+
+    /**
+     * An AddressBookStorage that throws the given IOException when saving, while {@code isFailing} is true.
+     */
+    private static class FailingAddressBookStorage extends JsonAddressBookStorage {
+        private final IOException error;
+        private volatile boolean isFailing = true;
+
+        FailingAddressBookStorage(IOException error) {
+            super(Path.of("unused.json"));
+            this.error = error;
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            if (isFailing) {
+                throw error;
+            }
+        }
+    }
+}
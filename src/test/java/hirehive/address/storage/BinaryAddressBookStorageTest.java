@@ -0,0 +1,131 @@
+package hirehive.address.storage;
+
+import static hirehive.address.testutil.Assert.assertThrows;
+import static hirehive.address.testutil.TypicalPersons.ALICE;
+import static hirehive.address.testutil.TypicalPersons.HOON;
+import static hirehive.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import hirehive.address.commons.exceptions.DataLoadingException;
+import hirehive.address.model.AddressBook;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void getBinaryFilePath() {
+        assertEquals(Paths.get("data", "addressbook.bin"),
+                BinaryAddressBookStorage.getBinaryFilePath(Paths.get("data", "addressbook.json")));
+        assertEquals(Paths.get("data", "addressbook.bin"),
+                BinaryAddressBookStorage.getBinaryFilePath(Paths.get("data", "addressbook")));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("missing.bin")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        assertEquals(original, storage.readAddressBook().get());
+
+        original.removePerson(ALICE);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        assertEquals(original, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_smallerThanJsonFile() throws Exception {
+        Path binaryFilePath = testFolder.resolve("addressBook.bin");
+        Path jsonFilePath = testFolder.resolve("addressBook.json");
+        new BinaryAddressBookStorage(binaryFilePath).saveAddressBook(getTypicalAddressBook());
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(getTypicalAddressBook());
+
+        assertTrue(Files.size(binaryFilePath) < Files.size(jsonFilePath));
+    }
+
+    @Test
+    public void readAddressBook_corruptedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[bytes.length / 2] ^= 1;
+        Files.write(filePath, bytes);
+
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 10));
+
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void readAddressBook_jsonFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.bin");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+
+        assertThrows(DataLoadingException.class, new BinaryAddressBookStorage(filePath)::readAddressBook);
+    }
+
+    @Test
+    public void copyFrom_jsonStorageAndBack_success() throws Exception {
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(testFolder.resolve("addressBook.json"));
+        JsonAddressBookStorage exportedStorage = new JsonAddressBookStorage(testFolder.resolve("exported.json"));
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(testFolder.resolve("addressBook.bin"));
+
+        assertFalse(storage.copyFrom(jsonStorage));
+        assertFalse(exportedStorage.copyFrom(storage));
+
+        jsonStorage.saveAddressBook(getTypicalAddressBook());
+        assertTrue(storage.copyFrom(jsonStorage));
+        assertEquals(getTypicalAddressBook(), storage.readAddressBook().get());
+
+        assertTrue(exportedStorage.copyFrom(storage));
+        assertEquals(getTypicalAddressBook(), exportedStorage.readAddressBook().get());
+    }
+
+    @Test
+    public void importJsonAndExportJson_success() throws Exception {
+        Path jsonFilePath = testFolder.resolve("addressBook.json");
+        Path exportedFilePath = testFolder.resolve("exported.json");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(testFolder.resolve("addressBook.bin"));
+
+        assertFalse(storage.importJson(jsonFilePath));
+        assertFalse(storage.exportJson(exportedFilePath));
+
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(getTypicalAddressBook());
+        assertTrue(storage.importJson(jsonFilePath));
+        assertEquals(getTypicalAddressBook(), storage.readAddressBook().get());
+
+        assertTrue(storage.exportJson(exportedFilePath));
+        assertEquals(getTypicalAddressBook(), new JsonAddressBookStorage(exportedFilePath).readAddressBook().get());
+    }
+}
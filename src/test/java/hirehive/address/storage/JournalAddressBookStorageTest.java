@@ -0,0 +1,191 @@
+package hirehive.address.storage;
+
+import static hirehive.address.testutil.Assert.assertThrows;
+import static hirehive.address.testutil.TypicalPersons.ALICE;
+import static hirehive.address.testutil.TypicalPersons.HOON;
+import static hirehive.address.testutil.TypicalPersons.IDA;
+import static hirehive.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import hirehive.address.commons.core.Durability;
+import hirehive.address.commons.exceptions.DataLoadingException;
+import hirehive.address.commons.util.FileUtil;
+import hirehive.address.commons.util.JsonUtil;
+import hirehive.address.model.AddressBook;
+import hirehive.address.model.PersonChange;
+
+public class JournalAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_nonPositiveThreshold_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new JournalAddressBookStorage(testFolder.resolve("addressBook.json"), 0, Durability.ALWAYS));
+    }
+
+    @Test
+    public void getSnapshotFilePath() {
+        assertEquals(Paths.get("data", "addressbook.snapshot.json"),
+                JournalAddressBookStorage.getSnapshotFilePath(Paths.get("data", "addressbook.json")));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new JournalAddressBookStorage(testFolder.resolve("missing.json")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_changesAfterFirstSave_appendedToJournal() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        String snapshot = FileUtil.readFromFile(filePath);
+
+        addressBook.removePerson(ALICE);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(snapshot, FileUtil.readFromFile(filePath));
+        assertEquals(2, readJournalLines(filePath).length);
+        assertEquals(addressBook, storage.readAddressBook().get());
+        // the snapshot is still readable as an ordinary address book json file
+        assertEquals(getTypicalAddressBook(), new JsonAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_changesAfterRead_appendedToJournal() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        AddressBook addressBook = getTypicalAddressBook();
+        JournalAddressBookStorage previousStorage = new JournalAddressBookStorage(filePath);
+        previousStorage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        previousStorage.saveAddressBook(addressBook);
+        String snapshot = FileUtil.readFromFile(filePath);
+
+        // as on the next run, the data read is copied into the model before it changes
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook readAddressBook = new AddressBook(storage.readAddressBook().get());
+        readAddressBook.removePerson(ALICE);
+        storage.saveAddressBook(readAddressBook);
+
+        assertEquals(snapshot, FileUtil.readFromFile(filePath));
+        assertEquals(2, readJournalLines(filePath).length);
+        assertEquals(readAddressBook, new JournalAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_thresholdReached_compactsJournal() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath, 2, Durability.ALWAYS);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(IDA);
+        storage.saveAddressBook(addressBook);
+        storage.awaitCompaction();
+
+        assertEquals(0, readJournalLines(filePath).length);
+        assertEquals(addressBook, new JsonAddressBookStorage(filePath).readAddressBook().get());
+
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(addressBook);
+        assertEquals(1, readJournalLines(filePath).length);
+        assertEquals(addressBook, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_dataReplaced_replacesSnapshotAndJournal() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        addressBook.resetData(new AddressBook());
+        storage.saveAddressBook(addressBook);
+
+        assertFalse(Files.exists(JournalAddressBookStorage.getJournalFilePath(filePath)));
+        assertEquals(new AddressBook(), storage.readAddressBook().get());
+    }
+
+    @Test
+    public void moveAddressBookAside_snapshotAndJournalNoLongerRead() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(addressBook);
+
+        storage.moveAddressBookAside(".migrated");
+
+        assertFalse(storage.readAddressBook().isPresent());
+        assertFalse(Files.exists(JournalAddressBookStorage.getJournalFilePath(filePath)));
+        assertTrue(Files.exists(testFolder.resolve("addressBook.json.migrated")));
+        assertTrue(Files.exists(testFolder.resolve("addressBook.json.journal.migrated")));
+    }
+
+    @Test
+    public void readAddressBook_recordsIncludedInSnapshot_skipped() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        Path journalFilePath = JournalAddressBookStorage.getJournalFilePath(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.saveAddressBook(addressBook);
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(addressBook);
+        String journal = FileUtil.readFromFile(journalFilePath);
+
+        // a new snapshot includes the record, but the save is cut off before the journal is deleted
+        new JournalAddressBookStorage(filePath).saveAddressBook(addressBook);
+        FileUtil.writeToFile(journalFilePath, journal);
+
+        assertEquals(addressBook, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastRecord_ignored() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        FileUtil.appendToFile(JournalAddressBookStorage.getJournalFilePath(filePath), "{\"sequence\":2,\"ty");
+
+        assertEquals(addressBook, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_inapplicableRecord_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.saveAddressBook(new AddressBook());
+
+        String record = JsonUtil.toJsonLine(new JsonAdaptedPersonChange(1, PersonChange.remove(ALICE)));
+        FileUtil.appendToFile(JournalAddressBookStorage.getJournalFilePath(filePath), record + "\n");
+
+        assertThrows(DataLoadingException.class, () -> storage.readAddressBook());
+    }
+
+    private String[] readJournalLines(Path filePath) throws Exception {
+        return FileUtil.readFromFile(JournalAddressBookStorage.getJournalFilePath(filePath)).lines()
+                .toArray(String[]::new);
+    }
+}
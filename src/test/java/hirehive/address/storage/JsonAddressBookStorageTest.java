@@ -12,6 +12,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import hirehive.address.commons.exceptions.DataLoadingException;
+import hirehive.address.commons.util.FileUtil;
 import hirehive.address.model.AddressBook;
 import hirehive.address.model.ReadOnlyAddressBook;
 import hirehive.address.testutil.Assert;
@@ -58,6 +59,32 @@ public class JsonAddressBookStorageTest {
         Assert.assertThrows(DataLoadingException.class, () -> readAddressBook("invalidAndValidPersonAddressBook.json"));
     }
 
+    @Test
+    public void readAddressBook_duplicatePersonAddressBook_throwDataLoadingException() {
+        Path filePath = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest",
+                "duplicatePersonAddressBook.json");
+        Assert.assertThrows(DataLoadingException.class, () -> new JsonAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_personsNotArray_throwDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("personsNotArray.json");
+        FileUtil.writeToFile(filePath, "{ \"persons\": { \"name\": \"Alice\" } }");
+        Assert.assertThrows(DataLoadingException.class, () -> new JsonAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_unknownFields_ignored() throws Exception {
+        Path filePath = testFolder.resolve("unknownFields.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(TypicalPersons.getTypicalAddressBook());
+        String persons = FileUtil.readFromFile(filePath).trim();
+        FileUtil.writeToFile(filePath, "{ \"before\": { \"persons\": [] }, "
+                + persons.substring(1, persons.length() - 1) + ", \"after\": [ 1, 2 ] }");
+
+        assertEquals(TypicalPersons.getTypicalAddressBook(),
+                new JsonAddressBookStorage(filePath).readAddressBook().get());
+    }
+
     @Test
     public void readAndSaveAddressBook_allInOrder_success() throws Exception {
         Path filePath = testFolder.resolve("TempAddressBook.json");
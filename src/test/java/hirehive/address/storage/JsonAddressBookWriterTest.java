@@ -0,0 +1,44 @@
+package hirehive.address.storage;
+
+import static hirehive.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import hirehive.address.commons.util.FileUtil;
+import hirehive.address.commons.util.JsonUtil;
+import hirehive.address.model.AddressBook;
+
+public class JsonAddressBookWriterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void write_typicalAddressBook_sameAsSerializableAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        AddressBook addressBook = getTypicalAddressBook();
+
+        new JsonAddressBookWriter(addressBook).write(filePath, false);
+
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBook)),
+                FileUtil.readFromFile(filePath));
+    }
+
+    @Test
+    public void write_journalSnapshot_readBackWithSequence() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        AddressBook addressBook = getTypicalAddressBook();
+
+        new JsonAddressBookWriter(addressBook, 42L).write(filePath, true);
+
+        JsonAddressBookReader reader = new JsonAddressBookReader(filePath);
+        assertEquals(addressBook, reader.read().get());
+        assertEquals(42L, reader.getJournalSequence());
+        assertEquals(42L, JsonUtil.readJsonFile(filePath, JsonSerializableAddressBook.class).get()
+                .getJournalSequence());
+    }
+}
@@ -5,13 +5,20 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import hirehive.address.commons.exceptions.IllegalValueException;
 import hirehive.address.commons.util.JsonUtil;
 import hirehive.address.model.AddressBook;
+import hirehive.address.model.person.Email;
+import hirehive.address.model.person.InterviewDate;
+import hirehive.address.model.person.Person;
+import hirehive.address.model.tag.Tag;
 import hirehive.address.testutil.Assert;
+import hirehive.address.testutil.PersonBuilder;
 import hirehive.address.testutil.TypicalPersons;
 
 public class JsonSerializableAddressBookTest {
@@ -41,8 +48,47 @@ public class JsonSerializableAddressBookTest {
     public void toModelType_duplicatePersons_throwsIllegalValueException() throws Exception {
         JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(DUPLICATE_PERSON_FILE,
                 JsonSerializableAddressBook.class).get();
-        Assert.assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON,
-                dataFromFile::toModelType);
+        String expectedMessage = String.format(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON_GROUPS,
+                "[Alice Pauline, Alice Pauline]");
+        Assert.assertThrows(IllegalValueException.class, expectedMessage, dataFromFile::toModelType);
+    }
+
+    @Test
+    public void toModelPersons_manyPersons_keepsOrder() throws Exception {
+        List<Person> expectedPersons = new ArrayList<>();
+        List<JsonAdaptedPerson> adaptedPersons = new ArrayList<>();
+        for (int i = 0; i < 2 * JsonSerializableAddressBook.PARALLEL_CONVERSION_THRESHOLD; i++) {
+            Person person = new PersonBuilder().withPhone(String.valueOf(80000000 + i)).build();
+            expectedPersons.add(person);
+            adaptedPersons.add(new JsonAdaptedPerson(person));
+        }
+        assertEquals(expectedPersons, JsonSerializableAddressBook.toModelPersons(adaptedPersons));
+    }
+
+    @Test
+    public void toModelPersons_manyInvalidPersons_reportsFirstInvalidPerson() {
+        JsonAdaptedPerson validPerson = new JsonAdaptedPerson(new PersonBuilder().build());
+        List<JsonAdaptedPerson> adaptedPersons = new ArrayList<>();
+        for (int i = 0; i < 4 * JsonSerializableAddressBook.PARALLEL_CONVERSION_THRESHOLD; i++) {
+            adaptedPersons.add(validPerson);
+        }
+        int firstInvalidIndex = 3 * JsonSerializableAddressBook.PARALLEL_CONVERSION_THRESHOLD;
+        for (int i = firstInvalidIndex; i < adaptedPersons.size(); i += 2) {
+            adaptedPersons.set(i, withPhoneAndEmail("+651234", PersonBuilder.DEFAULT_EMAIL));
+            adaptedPersons.set(i + 1, withPhoneAndEmail(PersonBuilder.DEFAULT_PHONE, "example.com"));
+        }
+        adaptedPersons.set(firstInvalidIndex - 1, withPhoneAndEmail(PersonBuilder.DEFAULT_PHONE, "example.com"));
+
+        for (int attempt = 0; attempt < 10; attempt++) {
+            assertThrows(IllegalValueException.class, Email.MESSAGE_CONSTRAINTS, () ->
+                    JsonSerializableAddressBook.toModelPersons(adaptedPersons));
+        }
+    }
+
+    private static JsonAdaptedPerson withPhoneAndEmail(String phone, String email) {
+        return new JsonAdaptedPerson(PersonBuilder.DEFAULT_NAME, phone, email, PersonBuilder.DEFAULT_ADDRESS,
+                PersonBuilder.DEFAULT_ROLE, Tag.getDefaultTag().getTagName(), PersonBuilder.DEFAULT_NOTE,
+                new InterviewDate().toString());
     }
 
 }
@@ -0,0 +1,221 @@
+package hirehive.address.storage;
+
+import static hirehive.address.testutil.Assert.assertThrows;
+import static hirehive.address.testutil.TypicalPersons.ALICE;
+import static hirehive.address.testutil.TypicalPersons.CARL;
+import static hirehive.address.testutil.TypicalPersons.HOON;
+import static hirehive.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import hirehive.address.commons.core.Durability;
+import hirehive.address.commons.exceptions.DataLoadingException;
+import hirehive.address.commons.util.FileUtil;
+import hirehive.address.commons.util.JsonUtil;
+import hirehive.address.model.AddressBook;
+import hirehive.address.model.person.Person;
+import hirehive.address.testutil.PersonBuilder;
+
+public class ShardedAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void getManifestFilePath() {
+        assertEquals(Paths.get("data", "addressbook.shards", "manifest.json"),
+                ShardedAddressBookStorage.getManifestFilePath(Paths.get("data", "addressbook.json")));
+    }
+
+    @Test
+    public void constructor_nonPositiveShardCount_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new ShardedAddressBookStorage(testFolder.resolve("manifest.json"), 0, Durability.ALWAYS));
+    }
+
+    @Test
+    public void readAddressBook_missingManifest_emptyResult() throws Exception {
+        assertFalse(new ShardedAddressBookStorage(testFolder.resolve("manifest.json")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path manifestFilePath = testFolder.resolve("manifest.json");
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(manifestFilePath);
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        assertEquals(original, storage.readAddressBook().get());
+
+        original.removePerson(ALICE);
+        original.addPerson(HOON);
+        original.setPerson(CARL, new PersonBuilder(CARL).withName("Carl Renamed").build());
+        storage.saveAddressBook(original);
+        assertEquals(original, new ShardedAddressBookStorage(manifestFilePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_onePersonEdited_rewritesOnlyItsShard() throws Exception {
+        Path manifestFilePath = testFolder.resolve("manifest.json");
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(manifestFilePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        List<String> shards = readShards(manifestFilePath);
+
+        addressBook.setPerson(ALICE, new PersonBuilder(ALICE).withPhone("91234567").build());
+        storage.saveAddressBook(addressBook);
+
+        assertOnlyShardReplaced(shards, readShards(manifestFilePath), storage.getShard(ALICE));
+        assertEquals((long) shards.size(), countShardFiles());
+    }
+
+    @Test
+    public void saveAddressBook_caseOnlyRename_rewritesShard() throws Exception {
+        Path manifestFilePath = testFolder.resolve("manifest.json");
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(manifestFilePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+
+        Person renamedAlice = new PersonBuilder(ALICE).withName(ALICE.getName().fullName.toUpperCase()).build();
+        addressBook.setPerson(ALICE, renamedAlice);
+        storage.saveAddressBook(addressBook);
+
+        List<Person> readPersons = new ShardedAddressBookStorage(manifestFilePath).readAddressBook().get()
+                .getPersonList();
+        assertEquals(renamedAlice.getName().fullName, readPersons.get(0).getName().fullName);
+    }
+
+    @Test
+    public void saveAddressBook_afterReadByNewStorage_rewritesOnlyChangedShard() throws Exception {
+        Path manifestFilePath = testFolder.resolve("manifest.json");
+        new ShardedAddressBookStorage(manifestFilePath).saveAddressBook(getTypicalAddressBook());
+        List<String> shards = readShards(manifestFilePath);
+
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(manifestFilePath);
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        assertOnlyShardReplaced(shards, readShards(manifestFilePath), storage.getShard(HOON));
+        assertEquals(addressBook, new ShardedAddressBookStorage(manifestFilePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_unchanged_writesNothing() throws Exception {
+        Path manifestFilePath = testFolder.resolve("manifest.json");
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(manifestFilePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+        String manifest = FileUtil.readFromFile(manifestFilePath);
+
+        storage.saveAddressBook(getTypicalAddressBook());
+        assertEquals(manifest, FileUtil.readFromFile(manifestFilePath));
+    }
+
+    @Test
+    public void readAddressBook_differentShardCount_splitAgainOnSave() throws Exception {
+        Path manifestFilePath = testFolder.resolve("manifest.json");
+        new ShardedAddressBookStorage(manifestFilePath, 3, Durability.ALWAYS).saveAddressBook(getTypicalAddressBook());
+
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(manifestFilePath, 5, Durability.ALWAYS);
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        assertEquals(getTypicalAddressBook(), addressBook);
+
+        storage.saveAddressBook(addressBook);
+        assertEquals(5, readShards(manifestFilePath).size());
+        assertEquals(5L, countShardFiles());
+        assertEquals(getTypicalAddressBook(), storage.readAddressBook().get());
+    }
+
+    @Test
+    public void moveAddressBookAside_noLongerRead() throws Exception {
+        Path manifestFilePath = testFolder.resolve("addressbook.shards").resolve("manifest.json");
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(manifestFilePath, 4, Durability.ALWAYS);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        storage.moveAddressBookAside(".migrated");
+
+        assertFalse(storage.readAddressBook().isPresent());
+        try (var files = Files.list(manifestFilePath.getParent())) {
+            assertTrue(files.allMatch(file -> file.getFileName().toString().endsWith(".migrated")));
+        }
+        assertTrue(Files.exists(manifestFilePath.resolveSibling("manifest.json.migrated")));
+    }
+
+    @Test
+    public void readAddressBook_missingShard_throwsDataLoadingException() throws Exception {
+        Path manifestFilePath = testFolder.resolve("manifest.json");
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(manifestFilePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        Files.delete(manifestFilePath.resolveSibling(readShards(manifestFilePath).get(storage.getShard(ALICE))));
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void readAddressBook_invalidPersonInShard_throwsDataLoadingException() throws Exception {
+        Path manifestFilePath = testFolder.resolve("manifest.json");
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(manifestFilePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        Path shardFilePath = manifestFilePath.resolveSibling(
+                readShards(manifestFilePath).get(storage.getShard(ALICE)));
+        FileUtil.writeToFile(shardFilePath, FileUtil.readFromFile(shardFilePath)
+                .replace(ALICE.getEmail().value, "not an email"));
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void assignOrderKeys() {
+        long gap = ShardedAddressBookStorage.ORDER_KEY_GAP;
+        Person amy = new PersonBuilder().withName("Amy").build();
+        Person bob = new PersonBuilder().withName("Bob").build();
+        Person cat = new PersonBuilder().withName("Cat").build();
+
+        // new persons are numbered after the last kept person
+        Map<String, Long> previousOrderKeys = Map.of(amy.getIdentityKey(), 5L);
+        assertTrue(Arrays.equals(new long[] {5, 5 + gap, 5 + 2 * gap},
+                ShardedAddressBookStorage.assignOrderKeys(List.of(amy, bob, cat), previousOrderKeys)));
+
+        // new persons between kept persons are spaced evenly between them
+        previousOrderKeys = Map.of(amy.getIdentityKey(), 10L, cat.getIdentityKey(), 20L);
+        assertTrue(Arrays.equals(new long[] {10, 15, 20},
+                ShardedAddressBookStorage.assignOrderKeys(List.of(amy, bob, cat), previousOrderKeys)));
+
+        // persons out of order get new keys
+        assertTrue(Arrays.equals(new long[] {20, 20 + gap},
+                ShardedAddressBookStorage.assignOrderKeys(List.of(cat, amy), previousOrderKeys)));
+
+        // no room between kept persons
+        previousOrderKeys = Map.of(amy.getIdentityKey(), 1L, cat.getIdentityKey(), 2L);
+        assertNull(ShardedAddressBookStorage.assignOrderKeys(List.of(amy, bob, cat), previousOrderKeys));
+    }
+
+    private static List<String> readShards(Path manifestFilePath) throws Exception {
+        return JsonUtil.readJsonFile(manifestFilePath, JsonShardManifest.class).get().getShards();
+    }
+
+    private static void assertOnlyShardReplaced(List<String> before, List<String> after, int replacedShard) {
+        assertEquals(before.size(), after.size());
+        for (int i = 0; i < before.size(); i++) {
+            assertEquals(i != replacedShard, before.get(i).equals(after.get(i)));
+        }
+    }
+
+    private long countShardFiles() throws Exception {
+        try (var files = Files.list(testFolder)) {
+            return files.filter(file -> file.getFileName().toString().startsWith("shard-")).count();
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package hirehive.address.storage;
+
+import static hirehive.address.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import hirehive.address.commons.core.Durability;
+import hirehive.address.commons.util.FileUtil;
+
+public class SyncPolicyTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new SyncPolicy(null));
+    }
+
+    @Test
+    public void shouldSync() {
+        SyncPolicy always = new SyncPolicy(Durability.ALWAYS);
+        assertTrue(always.shouldSync());
+        assertTrue(always.shouldSync());
+
+        SyncPolicy none = new SyncPolicy(Durability.NONE);
+        assertFalse(none.shouldSync());
+
+        // only the first of several saves in quick succession waits for the disk
+        SyncPolicy batched = new SyncPolicy(Durability.BATCHED);
+        assertTrue(batched.shouldSync());
+        assertFalse(batched.shouldSync());
+    }
+
+    @Test
+    public void write_batchedWithoutSync_syncedWhenIntervalIsUp() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        SyncPolicy batched = new SyncPolicy(Durability.BATCHED, 50);
+        List<Boolean> syncs = new ArrayList<>();
+        batched.write(filePath, sync -> {
+            FileUtil.writeToFileAtomically(filePath, "first", sync);
+            syncs.add(sync);
+        });
+        batched.write(filePath, sync -> {
+            FileUtil.writeToFileAtomically(filePath, "second", sync);
+            syncs.add(sync);
+        });
+
+        assertEquals(List.of(true, false), syncs);
+        assertTrue(batched.hasPendingSyncs());
+        long deadline = System.currentTimeMillis() + 5000;
+        while (batched.hasPendingSyncs() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertFalse(batched.hasPendingSyncs());
+    }
+
+    @Test
+    public void write_none_neverSynced() throws Exception {
+        SyncPolicy none = new SyncPolicy(Durability.NONE);
+        none.write(testFolder.resolve("data.json"), sync -> assertFalse(sync));
+        assertFalse(none.hasPendingSyncs());
+    }
+}
@@ -0,0 +1,74 @@
+package hirehive.address.testutil;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generates strings for checking that a hand-written validator accepts exactly what its regex accepts.
+ */
+public class FuzzedStrings {
+
+    /** Characters that the validators treat differently, including whitespace, symbols and non-ASCII letters. */
+    private static final String ALPHABET = "aZm09 -_.+@,()/'\t\n\r!#%\u00e9\u0661";
+    private static final int MAX_RANDOM_LENGTH = 16;
+    private static final int MAX_EDITS = 3;
+
+    /**
+     * Returns {@code count} strings generated from a fixed seed, so that failures can be reproduced.
+     * Half are random strings over {@link #ALPHABET}; the rest are {@code samples} with a few random edits,
+     * which reach the edge cases of the validators more often than random strings do.
+     */
+    public static List<String> generate(int count, String... samples) {
+        Random random = new Random(count);
+        List<String> strings = new ArrayList<>(count);
+        for (String sample : samples) {
+            strings.add(sample);
+        }
+        while (strings.size() < count) {
+            if (samples.length == 0 || random.nextBoolean()) {
+                strings.add(randomString(random));
+            } else {
+                strings.add(edit(random, samples[random.nextInt(samples.length)]));
+            }
+        }
+        return strings;
+    }
+
+    private static String randomString(Random random) {
+        StringBuilder builder = new StringBuilder();
+        int length = random.nextInt(MAX_RANDOM_LENGTH + 1);
+        for (int i = 0; i < length; i++) {
+            builder.append(randomCharacter(random));
+        }
+        return builder.toString();
+    }
+
+    private static String edit(Random random, String sample) {
+        StringBuilder builder = new StringBuilder(sample);
+        int edits = 1 + random.nextInt(MAX_EDITS);
+        for (int i = 0; i < edits; i++) {
+            int position = random.nextInt(builder.length() + 1);
+            switch (random.nextInt(3)) {
+            case 0:
+                builder.insert(position, randomCharacter(random));
+                break;
+            case 1:
+                if (position < builder.length()) {
+                    builder.deleteCharAt(position);
+                }
+                break;
+            default:
+                if (position < builder.length()) {
+                    builder.setCharAt(position, randomCharacter(random));
+                }
+                break;
+            }
+        }
+        return builder.toString();
+    }
+
+    private static char randomCharacter(Random random) {
+        return ALPHABET.charAt(random.nextInt(ALPHABET.length()));
+    }
+}